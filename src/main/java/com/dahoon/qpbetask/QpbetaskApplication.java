@@ -2,9 +2,9 @@ package com.dahoon.qpbetask;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@EnableCaching
+@EnableScheduling
 @SpringBootApplication
 public class QpbetaskApplication {
 
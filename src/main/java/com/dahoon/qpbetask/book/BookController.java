@@ -1,5 +1,15 @@
 package com.dahoon.qpbetask.book;
 
+import com.dahoon.qpbetask.book.bulk.BookExportService;
+import com.dahoon.qpbetask.book.bulk.BookImportFormat;
+import com.dahoon.qpbetask.book.bulk.BookImportResult;
+import com.dahoon.qpbetask.book.bulk.BookImportService;
+import com.dahoon.qpbetask.book.search.BookSearchCriteria;
+import com.dahoon.qpbetask.book.search.BookSearchMode;
+import com.dahoon.qpbetask.book.search.SuggestIndex;
+import com.dahoon.qpbetask.book.search.Suggestion;
+import com.dahoon.qpbetask.book.search.TagFacet;
+import com.dahoon.qpbetask.common.pagination.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -7,6 +17,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -14,11 +25,17 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -30,6 +47,8 @@ import java.util.List;
 public class BookController {
 
     private final BookService bookService;
+    private final BookImportService bookImportService;
+    private final BookExportService bookExportService;
 
     @PostMapping
     @Operation(summary = "도서 등록", description = "새로운 도서를 추가합니다.")
@@ -63,6 +82,44 @@ public class BookController {
         return ResponseEntity.ok(bookService.showBookPage(page, sort));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "도서 목록 커서 조회", description = "제목 또는 출판일 순으로 정렬한 도서 목록을 커서 기준으로 이어서 조회합니다. 다음 페이지는 응답의 nextCursor 로 요청합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공, 없다면 빈 페이지 반환", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "잘못된 정렬기준, 커서 또는 페이지 크기")
+    })
+    public ResponseEntity<CursorPage<BookDto>> scrollBooks(
+            @Parameter(description = "정렬 기준", example = "date", in = ParameterIn.QUERY)
+            @RequestParam(name = "sort", required = false, defaultValue = "title") String sort,
+
+            @Parameter(description = "이전 응답의 nextCursor, 없으면 첫 페이지", in = ParameterIn.QUERY)
+            @RequestParam(name = "cursor", required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (최대 100)", example = "10", in = ParameterIn.QUERY)
+            @RequestParam(name = "size", required = false, defaultValue = "10") int size) {
+        log.info("도서 커서 조회 컨트롤러 - 정렬기준 : {}, 페이지 크기 : {}", sort, size);
+
+        return ResponseEntity.ok(bookService.scrollBooks(sort, cursor, size));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "검색어 자동완성", description = "입력한 접두사로 시작하는 제목, 저자명 또는 태그를 해당 도서가 많은 순으로 제안합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공, 없다면 빈 리스트 반환", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "잘못된 데이터 입력")
+    })
+    public ResponseEntity<List<Suggestion>> suggest(
+            @Parameter(description = "자동완성 대상 (TITLE, AUTHOR, TAG)", example = "TITLE", in = ParameterIn.QUERY)
+            @RequestParam(name = "field", required = false, defaultValue = "TITLE") SuggestIndex.Field field,
+
+            @Parameter(description = "입력 중인 검색어", example = "한강", in = ParameterIn.QUERY)
+            @RequestParam(name = "prefix") @NotBlank(message = "검색어를 입력하세요") String prefix,
+
+            @Parameter(description = "제안 개수 (최대 50)", example = "10", in = ParameterIn.QUERY)
+            @RequestParam(name = "limit", required = false, defaultValue = "10") int limit) {
+        return ResponseEntity.ok(bookService.suggest(field, prefix, limit));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "특정 도서 조회", description = "도서 ID로 특정 도서 정보를 조회합니다.")
     @ApiResponses(value = {
@@ -78,6 +135,20 @@ public class BookController {
         return ResponseEntity.ok(bookService.showBook(bookId));
     }
 
+    @GetMapping("/batch")
+    @Operation(summary = "여러 도서 조회", description = "도서 ID 목록으로 여러 도서를 한 번에 조회합니다. 없는 ID는 결과에서 제외됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "한 번에 조회할 수 있는 개수 초과")
+    })
+    public ResponseEntity<List<BookDto>> showBooks(
+            @Parameter(description = "도서 ID 목록 (최대 300개)", example = "1,2,3", in = ParameterIn.QUERY)
+            @RequestParam(name = "ids") List<Long> bookIds) {
+        log.info("여러 도서 조회 컨트롤러 - {}개", bookIds.size());
+
+        return ResponseEntity.ok(bookService.showBooks(bookIds));
+    }
+
     @PatchMapping("/{id}")
     @Operation(summary = "도서 수정", description = "특정 도서의 정보를 수정합니다.")
     @ApiResponses(value = {
@@ -111,34 +182,81 @@ public class BookController {
     }
 
     @GetMapping("/title/{title}")
-    @Operation(summary = "제목으로 도서 검색", description = "검색어가 제목에 포함된 도서 목록을 조회합니다.")
+    @Operation(summary = "제목으로 도서 검색", description = "검색어가 제목에 포함된 도서 목록을 페이지 단위로 조회합니다. 다음 페이지는 응답의 nextCursor 로 요청합니다. FULLTEXT 방식은 관련도 순, 나머지는 ID 순입니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "조회 성공, 없다면 빈 리스트 반환"),
-            @ApiResponse(responseCode = "400", description = "잘못된 데이터 입력")
+            @ApiResponse(responseCode = "200", description = "조회 성공, 없다면 빈 페이지 반환"),
+            @ApiResponse(responseCode = "400", description = "잘못된 데이터 입력, 커서 또는 페이지 크기")
     })
-    public ResponseEntity<List<BookDto>> findBookByTitle(
+    public ResponseEntity<CursorPage<BookDto>> findBookByTitle(
             @Parameter(description = "제목 검색어", in = ParameterIn.PATH)
             @PathVariable(value = "title")
-            @NotBlank(message = "제목을 입력하세요") String title) {
-        log.info("도서 검색 title : {}", title);
+            @NotBlank(message = "제목을 입력하세요") String title,
+
+            @Parameter(description = "검색 방식 (INDEX, LIKE, FULLTEXT, CHOSUNG), 없으면 설정된 기본값", example = "FULLTEXT", in = ParameterIn.QUERY)
+            @RequestParam(name = "mode", required = false) BookSearchMode mode,
 
-        return ResponseEntity.ok(bookService.findBookByTitle(title));
+            @Parameter(description = "이전 응답의 nextCursor, 없으면 첫 페이지", in = ParameterIn.QUERY)
+            @RequestParam(name = "cursor", required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (최대 100), 없으면 설정된 기본값", example = "20", in = ParameterIn.QUERY)
+            @RequestParam(name = "size", required = false) Integer size) {
+        log.info("도서 검색 title : {}, 검색 방식 : {}", title, mode);
+
+        return ResponseEntity.ok(bookService.findBookByTitle(title, mode, cursor, size));
     }
 
     @GetMapping("/author/{author}")
-    @Operation(summary = "저자명으로 도서 검색", description = "검색어가 저자명에 포함된 도서 목록을 조회합니다.")
+    @Operation(summary = "저자명으로 도서 검색", description = "검색어가 저자명에 포함된 도서 목록을 페이지 단위로 조회합니다. 다음 페이지는 응답의 nextCursor 로 요청합니다. FULLTEXT 방식은 관련도 순, 나머지는 ID 순입니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "조회 성공, 없다면 빈 리스트 반환"),
-            @ApiResponse(responseCode = "400", description = "잘못된 데이터 입력")
+            @ApiResponse(responseCode = "200", description = "조회 성공, 없다면 빈 페이지 반환"),
+            @ApiResponse(responseCode = "400", description = "잘못된 데이터 입력, 커서 또는 페이지 크기")
     })
-    public ResponseEntity<List<BookDto>> findBookByAuthor(
+    public ResponseEntity<CursorPage<BookDto>> findBookByAuthor(
             @Parameter(description = "저자명 검색어", in = ParameterIn.PATH)
             @PathVariable(value = "author")
-            @NotBlank(message = "저자명을 입력하세요") String author) {
-        log.info("도서 검색 author : {}", author);
+            @NotBlank(message = "저자명을 입력하세요") String author,
+
+            @Parameter(description = "검색 방식 (INDEX, LIKE, FULLTEXT, CHOSUNG), 없으면 설정된 기본값", example = "FULLTEXT", in = ParameterIn.QUERY)
+            @RequestParam(name = "mode", required = false) BookSearchMode mode,
+
+            @Parameter(description = "이전 응답의 nextCursor, 없으면 첫 페이지", in = ParameterIn.QUERY)
+            @RequestParam(name = "cursor", required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (최대 100), 없으면 설정된 기본값", example = "20", in = ParameterIn.QUERY)
+            @RequestParam(name = "size", required = false) Integer size) {
+        log.info("도서 검색 author : {}, 검색 방식 : {}", author, mode);
+
+        return ResponseEntity.ok(bookService.findBookByAuthor(author, mode, cursor, size));
+    }
 
-        return ResponseEntity.ok(bookService.findBookByAuthor(author));
+    @GetMapping(value = "/export", produces = BookImportFormat.NDJSON_VALUE)
+    @Operation(summary = "전체 도서 내보내기", description = "모든 도서를 태그, 대출 여부와 함께 ID 순으로 한 줄에 하나씩(NDJSON) 스트리밍합니다. 일괄 등록(/import)의 NDJSON 형식과 호환됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 성공", content = @Content(mediaType = BookImportFormat.NDJSON_VALUE))
+    })
+    public void exportBooks(HttpServletResponse response) throws IOException {
+        log.info("도서 내보내기 컨트롤러");
+
+        // 비동기(StreamingResponseBody) 요청 시간 제한에 걸리지 않도록 요청 스레드에서 바로 응답에 씀
+        response.setContentType(BookImportFormat.NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        bookExportService.export(response.getOutputStream());
+    }
+
+    @PostMapping(value = "/import", consumes = {BookImportFormat.NDJSON_VALUE, "text/csv"})
+    @Operation(summary = "도서 일괄 등록", description = "NDJSON(application/x-ndjson) 또는 CSV(text/csv) 본문의 도서와 태그를 스트리밍으로 읽어 일괄 등록합니다. 일정 개수마다 커밋하며, 형식이 잘못된 줄은 건너뛰고 결과에 줄 번호를 남깁니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "등록 완료, 등록/건너뛴 건수와 초당 처리량 반환", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식 또는 CSV 헤더 없음")
+    })
+    public ResponseEntity<BookImportResult> importBooks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        log.info("도서 일괄 등록 컨트롤러 - 형식 : {}", contentType);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(bookImportService.importBooks(body, BookImportFormat.of(contentType)));
     }
+
     @PostMapping("/{id}/tag")
     @Operation(summary = "도서에 태그 추가", description = "도서에 태그를 한개 이상 추가합니다. 이미 추가된 태그는 추가하지 않습니다.")
     @ApiResponses(value = {
@@ -158,17 +276,72 @@ public class BookController {
         return ResponseEntity.status(HttpStatus.CREATED).body(bookService.addTags(bookId, tags));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "통합 도서 검색", description = "제목, 저자명, 태그, 출판일 범위를 조합해 모두 만족하는 도서를 ID 순으로 페이지 단위로 조회합니다. 입력하지 않은 조건은 적용하지 않으며 하나 이상 입력해야 합니다. 다음 페이지는 응답의 nextCursor 로 요청합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공, 없다면 빈 페이지 반환", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "검색 조건 없음, 잘못된 출판일 범위, 커서 또는 페이지 크기")
+    })
+    public ResponseEntity<CursorPage<BookDto>> searchBooks(
+            @Parameter(description = "제목 검색어", in = ParameterIn.QUERY)
+            @RequestParam(name = "title", required = false) String title,
+
+            @Parameter(description = "저자명 검색어", in = ParameterIn.QUERY)
+            @RequestParam(name = "author", required = false) String author,
+
+            @Parameter(description = "모두 가져야 하는 태그", example = "소설", in = ParameterIn.QUERY)
+            @RequestParam(name = "tag", required = false) List<String> tags,
+
+            @Parameter(description = "출판일 시작 (포함)", example = "2024-01-01", in = ParameterIn.QUERY)
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @Parameter(description = "출판일 끝 (포함)", example = "2024-12-31", in = ParameterIn.QUERY)
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @Parameter(description = "이전 응답의 nextCursor, 없으면 첫 페이지", in = ParameterIn.QUERY)
+            @RequestParam(name = "cursor", required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (최대 100), 없으면 설정된 기본값", example = "20", in = ParameterIn.QUERY)
+            @RequestParam(name = "size", required = false) Integer size) {
+        log.info("통합 도서 검색 컨트롤러 - 제목 : {}, 저자 : {}, 태그 : {}, 출판일 : {} ~ {}", title, author, tags, from, to);
+
+        return ResponseEntity.ok(bookService.searchBooks(BookSearchCriteria.of(title, author, tags, from, to), cursor, size));
+    }
+
+    @GetMapping("/tag/facets")
+    @Operation(summary = "태그별 도서 수 조회", description = "선택한 태그를 모두 가진 도서들에 함께 달린 다른 태그별 도서 수를 많은 순으로 조회합니다. 태그를 선택하지 않으면 전체 도서 기준입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공, 없다면 빈 리스트 반환", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "조회할 태그 수 범위 초과")
+    })
+    public ResponseEntity<List<TagFacet>> countTagFacets(
+            @Parameter(description = "현재 선택한 태그", example = "소설", in = ParameterIn.QUERY)
+            @RequestParam(name = "tag", required = false, defaultValue = "") List<String> tags,
+
+            @Parameter(description = "조회할 태그 수 (최대 1000)", example = "100", in = ParameterIn.QUERY)
+            @RequestParam(name = "limit", required = false, defaultValue = "100") int limit) {
+        log.info("태그별 도서 수 조회 컨트롤러 - 태그 목록 : {}", tags);
+
+        return ResponseEntity.ok(bookService.countTagFacets(tags, limit));
+    }
+
     @GetMapping("/tag")
-    @Operation(summary = "태그별 도서 필터링", description = "선택한 태그별 도서를 필터링하여 조회합니다.")
+    @Operation(summary = "태그별 도서 필터링", description = "선택한 태그를 모두 가진 도서를 ID 순으로 페이지 단위로 조회합니다. 다음 페이지는 응답의 nextCursor 로 요청합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "조회 성공", content = @Content(mediaType = "application/json")),
-            @ApiResponse(responseCode = "404", description = "해당 ID의 도서가 없음")
+            @ApiResponse(responseCode = "200", description = "조회 성공, 없다면 빈 페이지 반환", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기")
     })
-    public ResponseEntity<List<BookDto>> searchBooksByTags(
-            @Parameter(description = "추가할 태그", example = "소설", in = ParameterIn.QUERY)
-            @RequestParam(name = "tag") List<String> tags) {
+    public ResponseEntity<CursorPage<BookDto>> searchBooksByTags(
+            @Parameter(description = "필터링할 태그", example = "소설", in = ParameterIn.QUERY)
+            @RequestParam(name = "tag") List<String> tags,
+
+            @Parameter(description = "이전 응답의 nextCursor, 없으면 첫 페이지", in = ParameterIn.QUERY)
+            @RequestParam(name = "cursor", required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (최대 100), 없으면 설정된 기본값", example = "20", in = ParameterIn.QUERY)
+            @RequestParam(name = "size", required = false) Integer size) {
         log.info("도서 태그 필터링 컨트롤러 - 태그 목록 : {}", tags);
 
-        return ResponseEntity.ok(bookService.searchBooksByTags(tags));
+        return ResponseEntity.ok(bookService.searchBooksByTags(tags, cursor, size));
     }
 }
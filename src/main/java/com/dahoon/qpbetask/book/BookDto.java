@@ -42,14 +42,20 @@ public class BookDto {
                 .build();
     }
 
+    // 태그를 함께 읽은 도서에만 사용 (도서마다 태그 지연 로딩 방지)
     public static BookDto toDto(Book book) {
         log.info("BookDto toDto 메소드");
+        return toDto(book, book.getBookTags().stream()
+                .map(bookTag -> bookTag.getTag().getName())
+                .collect(Collectors.toSet()));
+    }
+
+    // 태그 이름을 따로 조회한 목록용
+    public static BookDto toDto(Book book, Set<String> tagSet) {
         return new BookDto(book.getId(),
                 book.getTitle(),
                 book.getAuthor(),
                 book.getPublishedDate(),
-                book.getBookTags().stream()
-                        .map(bookTag -> bookTag.getTag().getName())
-                        .collect(Collectors.toSet()));
+                tagSet);
     }
 }
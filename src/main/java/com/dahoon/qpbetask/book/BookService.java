@@ -4,59 +4,118 @@ import com.dahoon.qpbetask.book.entity.Book;
 import com.dahoon.qpbetask.book.entity.BookTag;
 import com.dahoon.qpbetask.book.entity.Tag;
 import com.dahoon.qpbetask.book.repository.BookRepository;
+import com.dahoon.qpbetask.book.repository.BookTagJdbcRepository;
 import com.dahoon.qpbetask.book.repository.BookTagRepository;
 import com.dahoon.qpbetask.book.repository.TagRepository;
+import com.dahoon.qpbetask.book.search.BookFulltextIndex;
+import com.dahoon.qpbetask.book.search.BookSearchCriteria;
+import com.dahoon.qpbetask.book.search.BookSearchIndex;
+import com.dahoon.qpbetask.book.search.BookSearchIndexSynchronizer;
+import com.dahoon.qpbetask.book.search.BookSearchMode;
+import com.dahoon.qpbetask.book.search.BookTagRow;
+import com.dahoon.qpbetask.book.search.ChosungIndex;
+import com.dahoon.qpbetask.book.search.SuggestIndex;
+import com.dahoon.qpbetask.book.search.Suggestion;
+import com.dahoon.qpbetask.book.search.TagBitmapIndex;
+import com.dahoon.qpbetask.book.search.TagFacet;
+import com.dahoon.qpbetask.common.cache.CacheGenerations;
 import com.dahoon.qpbetask.common.cache.CacheInvalidationPublisher;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.dahoon.qpbetask.common.cache.NegativeCacheEntry;
+import com.dahoon.qpbetask.common.cache.TwoLevelCache;
+import com.dahoon.qpbetask.common.pagination.CursorPage;
+import com.dahoon.qpbetask.loan.LoanStatusRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BookService {
 
+    public static final int MAX_BATCH_SIZE = 300;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_FACET_LIMIT = 1_000;
+    public static final int MAX_SUGGEST_LIMIT = 50;
+    private static final int CANDIDATE_CHUNK_SIZE = 1_000;
+    // 통합 검색에서 색인 후보가 이보다 많으면 IN 쿼리를 여러 번 보내는 대신 모든 조건을 한 쿼리로 DB 에서 조회
+    private static final int MAX_PLAN_CANDIDATES = 20_000;
+
     private final BookRepository bookRepository;
     private final TagRepository tagRepository;
     private final BookTagRepository bookTagRepository;
+    private final BookTagJdbcRepository bookTagJdbcRepository;
     private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final CacheGenerations cacheGenerations;
     private final CacheManager cacheManager;
+    private final LoanStatusRegistry loanStatusRegistry;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookSearchIndexSynchronizer bookSearchIndexSynchronizer;
+    private final BookFulltextIndex bookFulltextIndex;
+    private final ChosungIndex chosungIndex;
+    private final TagBitmapIndex tagBitmapIndex;
+    private final SuggestIndex suggestIndex;
+
+    // 검색 방식을 지정하지 않은 요청에 사용
+    @Value("${book.search.mode:INDEX}")
+    private BookSearchMode defaultSearchMode;
+    @Value("${book.search.page-size:20}")
+    private int defaultSearchPageSize;
 
+    // 새 ID 로 저장되어 있던 '없는 도서' 캐시를 커밋 이후 무효화
     @Transactional
-    @CacheEvict(value = "books", allEntries = true)
+    @CacheEvict(value = "book", key = "#result.id")
     public BookDto addBook(BookDto bookDto) {
         Book book = bookRepository.save(bookDto.toEntity());
+        Long id = book.getId();
 
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
                 log.info("캐시 afterCommit");
-                cacheInvalidationPublisher.publishInvalidationMessage("books");
+                cacheGenerations.bump("books");
+                cacheInvalidationPublisher.publishEviction("book", id);
+                bookSearchIndexSynchronizer.bookAdded(id, book.getTitle(), book.getAuthor());
             }
         });
 
         return BookDto.toDto(book);
     }
 
-    @Cacheable(value = "books", key = "#page + '-' + #sort")
+    @Transactional(readOnly = true)
+    @Cacheable(value = "books", key = "@cacheGenerations.current('books') + ':' + #page + '-' + #sort", sync = true)
     public List<BookDto> showBookPage(int page, String sort) {
         List<Sort.Order> sorts = new ArrayList<>();
         if (sort.equals("title")) {
@@ -67,40 +126,124 @@ public class BookService {
             throw new IllegalArgumentException("잘못된 정렬 기준");
         }
         Pageable pageable = PageRequest.of(page, 10, Sort.by(sorts));
-        Page<Book> bookPage = bookRepository.findAll(pageable);
+        // 전체 개수는 응답에 쓰지 않으므로 COUNT 쿼리 없이 조회
+        Slice<Book> bookPage = bookRepository.findSliceBy(pageable);
 
         if (bookPage.isEmpty()) {
             return Collections.emptyList();
         }
-        return bookPage.getContent().stream()
-                .map(BookDto::toDto)
-                .toList();
+        return toDtos(bookPage.getContent());
     }
 
-    @Cacheable(value = "book", key = "#id")
+    // OFFSET 없이 커서 위치부터 (정렬 기준, ID) 인덱스를 읽으므로 깊은 페이지도 첫 페이지와 비용이 같음
+    @Transactional(readOnly = true)
+    @Cacheable(value = "bookPages", key = "@cacheGenerations.current('books') + ':' + #sort + ':' + #size + ':' + #cursor", sync = true)
+    public CursorPage<BookDto> scrollBooks(String sort, String cursor, int size) {
+        resolvePageSize(size);
+        Limit limit = Limit.of(size + 1);
+        ListCursor after = cursor == null ? null : ListCursor.decode(cursor, sort);
+
+        List<Book> books;
+        try {
+            if (sort.equals("title")) {
+                books = after == null
+                        ? bookRepository.findByOrderByTitleAscIdAsc(limit)
+                        : bookRepository.findByTitleAfter(after.value(), after.lastId(), limit);
+            } else if (sort.equals("date")) {
+                books = after == null
+                        ? bookRepository.findByOrderByPublishedDateAscIdAsc(limit)
+                        : bookRepository.findByPublishedDateAfter(LocalDate.parse(after.value()), after.lastId(), limit);
+            } else {
+                throw new IllegalArgumentException("잘못된 정렬 기준");
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+
+        return CursorPage.of(toDtos(books), size,
+                bookDto -> new String[]{sort,
+                        sort.equals("title") ? bookDto.getTitle() : bookDto.getPublishedDate().toString(),
+                        String.valueOf(bookDto.getId())});
+    }
+
+    // 목록 커서 [정렬 기준, 마지막 항목의 정렬 값, 마지막 항목의 ID], 다른 정렬 기준의 커서는 거부
+    private record ListCursor(String value, long lastId) {
+
+        static ListCursor decode(String cursor, String sort) {
+            String[] values = CursorPage.decodeCursor(cursor, 3);
+            if (!values[0].equals(sort)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            try {
+                return new ListCursor(values[1], Long.parseLong(values[2]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = "book", key = "#id", sync = true)
     public BookDto showBook(Long id) {
         log.info("서비스 - 특정 도서 조회");
-        Book book = bookRepository.findById(id)
+        Book book = bookRepository.findWithTagsById(id)
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 도서가 없습니다."));
         return BookDto.toDto(book);
     }
 
+    // 캐시 조회는 MGET 한 번, 캐시에 없는 도서는 IN 쿼리 한 번으로 조회 후 파이프라인으로 캐싱
+    // 요청 순서대로 반환하고 없는 ID 는 결과에서 제외 (showBook 처럼 없는 ID 결과도 캐싱해서 반복 조회가 DB 로 가지 않음)
+    @Transactional(readOnly = true)
+    public List<BookDto> showBooks(List<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 도서는 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("book");
+
+        Map<Object, Object> cached = cache.getAll(uniqueIds);
+        List<Long> missingIds = uniqueIds.stream()
+                .filter(id -> !cached.containsKey(id))
+                .toList();
+        log.info("도서 일괄 조회 - 요청 {}개, 캐시 히트 {}개", uniqueIds.size(), cached.size());
+
+        Map<Long, Object> loaded = new HashMap<>();
+        if (!missingIds.isEmpty()) {
+            for (Book book : bookRepository.findAllWithTagsByIdIn(missingIds)) {
+                loaded.put(book.getId(), BookDto.toDto(book));
+            }
+            for (Long id : missingIds) {
+                loaded.putIfAbsent(id, new NegativeCacheEntry("해당 ID의 도서가 없습니다."));
+            }
+            cache.putAll(loaded);
+        }
+
+        List<BookDto> result = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            Object bookDto = cached.containsKey(id) ? cached.get(id) : loaded.get(id);
+            if (bookDto instanceof BookDto found) {
+                result.add(found);
+            }
+        }
+        return result;
+    }
+
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "book", key = "#id"),
-            @CacheEvict(value = "books", allEntries = true)
-    })
+    @CacheEvict(value = "book", key = "#id")
     public BookDto updateBook(BookDto bookDto, Long id) {
-        Book book = bookRepository.findById(id)
+        Book book = bookRepository.findWithTagsById(id)
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 도서가 없습니다."));
+        String oldTitle = book.getTitle();
+        String oldAuthor = book.getAuthor();
         Book newBook = book.update(bookDto);
 
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
                 log.info("캐시 afterCommit");
-                cacheInvalidationPublisher.publishInvalidationMessage("books");
-                cacheInvalidationPublisher.publishInvalidationMessage("book::" + id);
+                cacheGenerations.bump("books");
+                cacheInvalidationPublisher.publishEviction("book", id);
+                bookSearchIndexSynchronizer.bookUpdated(id, oldTitle, oldAuthor, newBook.getTitle(), newBook.getAuthor());
             }
         });
 
@@ -108,20 +251,12 @@ public class BookService {
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "book", key = "#id"),
-            @CacheEvict(value = "books", allEntries = true)
-    })
+    @CacheEvict(value = "book", key = "#id")
     public void deleteBook(Long id) {
         Book book = bookRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 도서가 없습니다."));
 
         List<String> tags = bookRepository.findTagNamesByBookId(id);
-        String sortedTagKey = getSortedTagsKey(tags);
-        if (!sortedTagKey.equals("empty")) {
-            cacheManager.getCache("booksByTag").evict(sortedTagKey);
-            log.info("태그 필터링 캐시 무효화");
-        }
 
         bookRepository.delete(book);
 
@@ -129,100 +264,326 @@ public class BookService {
             @Override
             public void afterCommit() {
                 log.info("캐시 afterCommit");
-                cacheInvalidationPublisher.publishInvalidationMessage("books");
-                cacheInvalidationPublisher.publishInvalidationMessage("book::" + id);
-
-                if (!sortedTagKey.equals("empty")) {
-                    cacheInvalidationPublisher.publishInvalidationMessage("booksByTag::" + sortedTagKey);
-                    log.info("도서 삭제 - 태그필터링 캐시 무효화 pub/sub");
-                }
+                cacheGenerations.bump("books");
+                cacheInvalidationPublisher.publishEviction("book", id);
+                // 대출 기록도 함께 삭제되므로 대출 중 집합에서 제거
+                loanStatusRegistry.markAvailable(id);
+                bookSearchIndexSynchronizer.bookDeleted(id, book.getTitle(), book.getAuthor(), tags);
             }
         });
     }
 
-    @Cacheable(value = "booksByTitle", key = "#title")
-    public List<BookDto> findBookByTitle(String title) {
-        List<Book> bookList = bookRepository.findByTitleContaining(title);
-        return bookList.stream()
-                .map(BookDto::toDto)
-                .toList();
+    // 커서 이후 한 페이지만 조회, 캐시도 페이지 단위로 저장
+    // 도서 등록/수정/삭제 시 books 세대 번호가 바뀌므로 이전 검색 결과는 더 이상 조회되지 않음
+    @Transactional(readOnly = true)
+    @Cacheable(value = "bookTitlePages", key = "@cacheGenerations.current('books') + ':' + @bookService.getSearchKey(#title, #mode, #cursor, #size)", sync = true)
+    public CursorPage<BookDto> findBookByTitle(String title, BookSearchMode mode, String cursor, Integer size) {
+        return searchPage(BookSearchIndex.Field.TITLE, title, mode, cursor, size);
     }
 
-    @Cacheable(value = "booksByAuthor", key = "#author")
-    public List<BookDto> findBookByAuthor(String author) {
-        List<Book> bookList = bookRepository.findByAuthorContaining(author);
-        return bookList.stream()
-                .map(BookDto::toDto)
-                .toList();
+    @Transactional(readOnly = true)
+    @Cacheable(value = "bookAuthorPages", key = "@cacheGenerations.current('books') + ':' + @bookService.getSearchKey(#author, #mode, #cursor, #size)", sync = true)
+    public CursorPage<BookDto> findBookByAuthor(String author, BookSearchMode mode, String cursor, Integer size) {
+        return searchPage(BookSearchIndex.Field.AUTHOR, author, mode, cursor, size);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "book", key = "#id"),
-            @CacheEvict(value = "books", allEntries = true),
-            @CacheEvict(value = "booksByTag", key = "@bookService.getSortedTagsKey(#tags)")
-    })
+    @CacheEvict(value = "book", key = "#id")
     public BookDto addTags(Long id, List<String> tags) {
         Book book = bookRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 도서가 없습니다."));
-        List<String> affectedTags = new ArrayList<>();
 
-        for (String t : tags) {
-            Tag tag = tagRepository.findByName(t)
-                    .orElseGet(() -> tagRepository.save(new Tag(t)));
+        // 태그 수와 관계없이 조회 3번(도서, 태그, 도서의 기존 태그) + 일괄 INSERT 최대 2번 (새 태그가 있으면 ID 조회 1번 추가)
+        // MySQL 기본 collation 처럼 대소문자가 다른 이름은 같은 태그로 봄
+        Map<String, Tag> tagByName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        tagRepository.findByNameIn(tags).forEach(tag -> tagByName.put(tag.getName(), tag));
+
+        List<String> missing = tags.stream()
+                .filter(t -> !tagByName.containsKey(t))
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            // 다른 요청이 같은 태그를 먼저 넣었으면 무시되고, 잠금 읽기로 그 행을 가져옴
+            bookTagJdbcRepository.insertTagsIgnoringDuplicates(missing);
+            tagRepository.findForShareByNameIn(missing).forEach(tag -> tagByName.put(tag.getName(), tag));
+        }
 
-            if (bookTagRepository.existsByBookAndTag(book, tag)) {
+        Set<String> tagSet = new HashSet<>();
+        Set<Long> attachedTagIds = new HashSet<>();
+        for (Tag tag : bookTagRepository.findTagsByBookId(id)) {
+            tagSet.add(tag.getName());
+            attachedTagIds.add(tag.getId());
+        }
+
+        Map<Long, String> newTags = new LinkedHashMap<>();
+        for (String t : tags) {
+            Tag tag = tagByName.get(t);
+            if (tag == null) {
+                // collation 규칙(공백, 악센트 등)으로만 같은 이름이라 이름 비교로 찾지 못한 경우
+                log.warn("태그를 찾을 수 없어 건너뜀 - {}", t);
                 continue;
             }
-            bookTagRepository.save(book.addTag(tag));
-            affectedTags.add(t);
+            if (!attachedTagIds.contains(tag.getId())) {
+                newTags.put(tag.getId(), tag.getName());
+            }
+        }
+        if (!newTags.isEmpty()) {
+            bookTagJdbcRepository.insertBookTagsIgnoringDuplicates(id, newTags.keySet());
         }
+        tagSet.addAll(newTags.values());
+        List<String> affectedTags = List.copyOf(newTags.values());
         log.info("각 태그 저장 완료");
 
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
                 log.info("캐시 afterCommit");
-                cacheInvalidationPublisher.publishInvalidationMessage("book::" + id);
-                cacheInvalidationPublisher.publishInvalidationMessage("books");
-
-                String sortedTagKey = getSortedTagsKey(affectedTags);
-                if (!sortedTagKey.equals("empty")) {
-                    cacheInvalidationPublisher.publishInvalidationMessage("booksByTag::" + sortedTagKey);
-                    log.info("태그 추가 캐시 무효화 pub sub");
-                }
+                cacheInvalidationPublisher.publishEviction("book", id);
+                cacheGenerations.bump("books");
+                bookSearchIndexSynchronizer.tagsAdded(id, affectedTags);
             }
         });
 
-        return BookDto.toDto(book);
+        return BookDto.toDto(book, tagSet);
+    }
+
+    // 태그 비트맵 교집합에서 커서 이후 한 페이지의 ID 만 꺼내고 도서 정보는 도서 캐시(MGET) + IN 쿼리로 조회
+    // 비트맵 색인이 아직 없으면 DB 집계로 같은 페이지를 조회
+    @Transactional(readOnly = true)
+    public CursorPage<BookDto> searchBooksByTags(List<String> tags, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        long lastId = cursor == null ? 0 : cursorPosition(cursor);
+        // 태그 이름은 대소문자를 구분하지 않으므로 DB 집계의 태그 수도 같은 기준으로 중복 제거
+        Set<String> uniqueTags = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        uniqueTags.addAll(tags);
+        log.info("tag 개수 : {}", uniqueTags.size());
+
+        List<Long> ids = tagBitmapIndex.match(uniqueTags)
+                .map(bitmap -> TagBitmapIndex.page(bitmap, lastId, pageSize + 1))
+                .orElseGet(() -> bookRepository.findIdsByTags(uniqueTags, uniqueTags.size(), lastId, Limit.of(pageSize + 1)));
+
+        List<Long> pageIds = ids.size() > pageSize ? ids.subList(0, pageSize) : ids;
+        return new CursorPage<>(showBooks(pageIds),
+                ids.size() > pageSize ? CursorPage.encodeCursor(String.valueOf(pageIds.get(pageSize - 1))) : null);
+    }
+
+    // 통합 검색 : 메모리 색인(태그 비트맵, 제목/저자 n-gram)으로 만들 수 있는 후보 집합을 도서 수가 적은 것부터 교집합해 먼저 좁히고
+    // 나머지 조건(제목/저자 실제 포함 여부, 출판일, 색인이 없는 태그)은 좁힌 후보 ID 로만 DB 에서 확인
+    // 색인으로 좁힐 수 없거나 후보가 너무 많으면 모든 조건을 한 쿼리로 DB 에서 ID 순으로 이어 읽음
+    @Transactional(readOnly = true)
+    public CursorPage<BookDto> searchBooks(BookSearchCriteria criteria, String cursor, Integer size) {
+        if (criteria.isEmpty()) {
+            throw new IllegalArgumentException("검색 조건을 하나 이상 입력하세요.");
+        }
+        if (criteria.from() != null && criteria.to() != null && criteria.from().isAfter(criteria.to())) {
+            throw new IllegalArgumentException("출판일 시작이 끝보다 늦을 수 없습니다.");
+        }
+        int pageSize = resolvePageSize(size);
+        long lastId = cursor == null ? 0 : cursorPosition(cursor);
+
+        List<CandidateSet> sets = new ArrayList<>();
+        Optional<RoaringBitmap> tagBitmap = tagBitmapIndex.match(criteria.tags());
+        tagBitmap.ifPresent(bitmap -> sets.add(new CandidateSet("tag", bitmap)));
+        if (criteria.title() != null) {
+            bookSearchIndex.candidates(BookSearchIndex.Field.TITLE, criteria.title())
+                    .ifPresent(ids -> sets.add(new CandidateSet("title", toBitmap(ids))));
+        }
+        if (criteria.author() != null) {
+            bookSearchIndex.candidates(BookSearchIndex.Field.AUTHOR, criteria.author())
+                    .ifPresent(ids -> sets.add(new CandidateSet("author", toBitmap(ids))));
+        }
+        sets.sort(Comparator.comparingLong(set -> set.ids().getLongCardinality()));
+
+        RoaringBitmap candidates = null;
+        for (CandidateSet set : sets) {
+            candidates = candidates == null ? set.ids() : RoaringBitmap.and(candidates, set.ids());
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+
+        String title = escapeLike(criteria.title());
+        String author = escapeLike(criteria.author());
+        // 태그를 비트맵으로 이미 확인했으면 후보 확인 쿼리에서는 태그를 다시 비교하지 않음
+        boolean tagsInDb = tagBitmap.isEmpty() && !criteria.tags().isEmpty();
+        boolean needsDb = title != null || author != null || criteria.from() != null || criteria.to() != null || tagsInDb;
+
+        List<Long> ids;
+        String plan;
+        if (candidates != null && !needsDb) {
+            plan = "색인";
+            ids = TagBitmapIndex.page(candidates, lastId, pageSize + 1);
+        } else if (candidates != null && candidates.getLongCardinality() <= MAX_PLAN_CANDIDATES) {
+            plan = "색인 후보 DB 확인";
+            List<String> tagNames = tagsInDb ? criteria.tagNames() : List.of("");
+            long tagCount = tagsInDb ? criteria.tags().size() : 0;
+            ids = confirmCandidates(TagBitmapIndex.page(candidates, lastId, MAX_PLAN_CANDIDATES), lastId, pageSize + 1,
+                    (chunk, limit) -> bookRepository.findIdsByIdInAndCriteria(chunk, title, author,
+                            criteria.from(), criteria.to(), tagNames, tagCount, limit));
+        } else {
+            plan = "DB";
+            ids = bookRepository.findIdsByCriteria(title, author, criteria.from(), criteria.to(),
+                    criteria.tagNames(), criteria.tags().size(), lastId, Limit.of(pageSize + 1));
+        }
+        log.info("통합 검색 - 색인 후보 {} -> {}개, 방식 : {}",
+                sets.stream().map(set -> set.name() + " " + set.ids().getLongCardinality()).toList(),
+                candidates == null ? "-" : candidates.getLongCardinality(), plan);
+
+        List<Long> pageIds = ids.size() > pageSize ? ids.subList(0, pageSize) : ids;
+        return new CursorPage<>(showBooks(pageIds),
+                ids.size() > pageSize ? CursorPage.encodeCursor(String.valueOf(pageIds.get(pageSize - 1))) : null);
     }
 
-    @Cacheable(value = "booksByTag", key = "@bookService.getSortedTagsKey(#tags)")
-    public List<BookDto> searchBooksByTags(List<String> tags) {
-        log.info("tag 개수 : {}", tags.size());
-        List<Book> bookList = bookRepository.findByTags(tags, tags.size());
-        log.info("태그 필터링 - {}", bookList);
+    private record CandidateSet(String name, RoaringBitmap ids) {
+    }
+
+    private static RoaringBitmap toBitmap(List<Long> ids) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        ids.forEach(id -> bitmap.add(Math.toIntExact(id)));
+        return bitmap;
+    }
+
+    // LIKE 패턴 문자를 BookRepository.CRITERIA 의 이스케이프 문자('!')로 처리
+    private static String escapeLike(String keyword) {
+        return keyword == null ? null : keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    // 태그 필터 결과의 다른 태그별 도서 수 (많은 순, 같으면 이름순), 태그 비트맵 색인이 없으면 DB 집계 한 번
+    @Transactional(readOnly = true)
+    public List<TagFacet> countTagFacets(List<String> tags, int limit) {
+        if (limit < 1 || limit > MAX_FACET_LIMIT) {
+            throw new IllegalArgumentException("조회할 태그 수는 1 ~ " + MAX_FACET_LIMIT + " 사이여야 합니다.");
+        }
+        Set<String> uniqueTags = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (String tag : tags) {
+            if (!tag.isBlank()) {
+                uniqueTags.add(tag);
+            }
+        }
 
-        return bookList.stream()
-                .map(BookDto::toDto)
+        List<TagFacet> facets = tagBitmapIndex.facets(uniqueTags)
+                .orElseGet(() -> uniqueTags.isEmpty()
+                        ? bookTagRepository.countAllByTag()
+                        : bookTagRepository.countByTagWithin(uniqueTags, uniqueTags.size()));
+        return facets.stream()
+                .sorted(Comparator.comparingLong(TagFacet::count).reversed().thenComparing(TagFacet::tag))
+                .limit(limit)
                 .toList();
     }
 
-    // 캐시 저장용 태그 정렬
-    public String getSortedTagsKey(List<String> tags) {
-        log.info("getSortedTagsKey");
-        if (tags == null || tags.isEmpty()) {
-            return "empty";
+    // 메모리 색인에서만 조회 (DB 조회 없음), 색인이 아직 없으면 빈 결과
+    public List<Suggestion> suggest(SuggestIndex.Field field, String prefix, int limit) {
+        if (limit < 1 || limit > MAX_SUGGEST_LIMIT) {
+            throw new IllegalArgumentException("자동완성 개수는 1 ~ " + MAX_SUGGEST_LIMIT + " 사이여야 합니다.");
+        }
+        return suggestIndex.suggest(field, prefix, limit).orElse(List.of());
+    }
+
+    // FULLTEXT 인덱스가 없거나 ngram 토큰보다 짧은 검색어, 초성 색인이 아직 없을 때는 INDEX 방식으로 검색
+    private BookSearchMode resolveSearchMode(String keyword, BookSearchMode mode) {
+        BookSearchMode resolved = mode == null ? defaultSearchMode : mode;
+        if (resolved == BookSearchMode.FULLTEXT
+                && (!bookFulltextIndex.isAvailable() || keyword.strip().length() < BookFulltextIndex.MIN_KEYWORD_LENGTH)) {
+            return BookSearchMode.INDEX;
+        }
+        if (resolved == BookSearchMode.CHOSUNG && !chosungIndex.isAvailable()) {
+            return BookSearchMode.INDEX;
+        }
+        return resolved;
+    }
+
+    // INDEX, LIKE, CHOSUNG 은 ID 순서로 마지막 ID 이후를 이어 읽고, FULLTEXT 는 관련도 순서라 읽은 개수(OFFSET)를 커서로 사용
+    // 커서는 같은 검색 방식으로 다음 페이지를 요청할 때만 유효
+    private CursorPage<BookDto> searchPage(BookSearchIndex.Field field, String keyword, BookSearchMode mode,
+                                           String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        long position = cursor == null ? 0 : cursorPosition(cursor);
+        boolean title = field == BookSearchIndex.Field.TITLE;
+
+        BookSearchMode resolved = resolveSearchMode(keyword, mode);
+        if (resolved == BookSearchMode.FULLTEXT) {
+            String phrase = BookFulltextIndex.phrase(keyword);
+            List<Book> books = title
+                    ? bookRepository.searchByTitleFulltext(phrase, position, pageSize + 1)
+                    : bookRepository.searchByAuthorFulltext(phrase, position, pageSize + 1);
+            List<BookDto> content = toDtos(books.subList(0, Math.min(pageSize, books.size())));
+            return new CursorPage<>(content,
+                    books.size() > pageSize ? CursorPage.encodeCursor(String.valueOf(position + pageSize)) : null);
+        }
+
+        // 초성 검색은 메모리에서 일치 여부까지 확인하므로 DB 는 해당 페이지 도서만 조회
+        if (resolved == BookSearchMode.CHOSUNG) {
+            List<Long> ids = chosungIndex.search(field, keyword, position, pageSize + 1).orElse(List.of());
+            List<Long> pageIds = ids.subList(0, Math.min(pageSize, ids.size()));
+            return new CursorPage<>(showBooks(pageIds),
+                    ids.size() > pageSize ? CursorPage.encodeCursor(String.valueOf(pageIds.get(pageSize - 1))) : null);
         }
 
-        List<String> sortedTags = new ArrayList<>(tags);
-        Collections.sort(sortedTags);
-        log.info("캐시 무효화 태그 키 - {}", sortedTags);
+        Supplier<List<Book>> likeQuery = () -> title
+                ? bookRepository.findByTitleContainingAndIdGreaterThanOrderByIdAsc(keyword, position, Limit.of(pageSize + 1))
+                : bookRepository.findByAuthorContainingAndIdGreaterThanOrderByIdAsc(keyword, position, Limit.of(pageSize + 1));
+        BiFunction<List<Long>, Limit, List<Book>> candidateQuery = (chunk, limit) -> title
+                ? bookRepository.findByIdInAndTitleContainingOrderByIdAsc(chunk, keyword, limit)
+                : bookRepository.findByIdInAndAuthorContainingOrderByIdAsc(chunk, keyword, limit);
 
+        List<Book> books = resolved == BookSearchMode.LIKE
+                ? likeQuery.get()
+                : bookSearchIndex.candidates(field, keyword)
+                        .map(ids -> confirmCandidates(ids, position, pageSize + 1, candidateQuery))
+                        .orElseGet(likeQuery);
+
+        return CursorPage.of(toDtos(books), pageSize,
+                bookDto -> new String[]{String.valueOf(bookDto.getId())});
+    }
+
+    // 목록의 태그 이름은 도서 ID IN 쿼리 한 번으로 읽어 채움 (목록 크기와 관계없이 쿼리 수 고정)
+    private List<BookDto> toDtos(List<Book> books) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Set<String>> tagNames = new HashMap<>();
+        for (BookTagRow row : bookRepository.findTagRowsByBookIdIn(books.stream().map(Book::getId).toList())) {
+            tagNames.computeIfAbsent(row.bookId(), bookId -> new HashSet<>()).add(row.tagName());
+        }
+        return books.stream()
+                .map(book -> BookDto.toDto(book, tagNames.getOrDefault(book.getId(), new HashSet<>())))
+                .toList();
+    }
+
+    private long cursorPosition(String cursor) {
         try {
-            return new ObjectMapper().writeValueAsString(sortedTags);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("캐시 키 변환 오류", e);
+            long position = Long.parseLong(CursorPage.decodeCursor(cursor, 1)[0]);
+            if (position >= 0) {
+                return position;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException("잘못된 커서입니다.");
+    }
+
+    private int resolvePageSize(Integer size) {
+        int pageSize = size == null ? defaultSearchPageSize : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
         }
+        return pageSize;
+    }
+
+    // 색인 후보(ID 오름차순) 중 커서 이후부터 IN 절 크기 단위로 나눠 DB 에서 실제 포함 여부 확인, limit 개가 모이면 중단
+    private <T> List<T> confirmCandidates(List<Long> ids, long lastId, int limit, BiFunction<List<Long>, Limit, List<T>> query) {
+        int start = Collections.binarySearch(ids, lastId);
+        start = start >= 0 ? start + 1 : -start - 1;
+
+        List<T> result = new ArrayList<>();
+        for (int from = start; from < ids.size() && result.size() < limit; from += CANDIDATE_CHUNK_SIZE) {
+            result.addAll(query.apply(ids.subList(from, Math.min(from + CANDIDATE_CHUNK_SIZE, ids.size())),
+                    Limit.of(limit - result.size())));
+        }
+        return result;
+    }
+
+    // 제목/저자 검색 캐시 키, 기본값을 채운 검색 방식과 페이지 크기를 포함 (커서는 Base64 라 ':' 가 없음)
+    public String getSearchKey(String keyword, BookSearchMode mode, String cursor, Integer size) {
+        return resolveSearchMode(keyword, mode) + ":" + resolvePageSize(size) + ":" + (cursor == null ? "" : cursor) + ":" + keyword;
     }
 }
@@ -0,0 +1,9 @@
+package com.dahoon.qpbetask.book.bulk;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 내보내기 NDJSON 한 줄
+public record BookExportRecord(Long id, String title, String author, LocalDate publishedDate, List<String> tags,
+                               boolean borrowed) {
+}
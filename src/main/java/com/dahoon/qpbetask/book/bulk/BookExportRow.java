@@ -0,0 +1,7 @@
+package com.dahoon.qpbetask.book.bulk;
+
+import java.time.LocalDate;
+
+// 내보내기 조회 결과 한 행 (도서 x 태그, 태그가 없으면 tagName 이 null)
+public record BookExportRow(Long id, String title, String author, LocalDate publishedDate, String tagName) {
+}
@@ -0,0 +1,109 @@
+package com.dahoon.qpbetask.book.bulk;
+
+import com.dahoon.qpbetask.book.repository.BookRepository;
+import com.dahoon.qpbetask.loan.LoanStatusRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// 전체 도서를 태그, 대출 여부와 함께 NDJSON 으로 내보냄
+// 결과를 한 번에 읽지 않고 MySQL 스트리밍 결과셋을 앞으로만 읽으며 CHUNK_SIZE 권마다 응답에 쓰므로 도서 수와 관계없이 메모리 사용량이 일정함
+// 캐시(@Cacheable)를 거치지 않아 한 번만 읽는 도서로 캐시를 채우지 않음
+@Service
+@Slf4j
+public class BookExportService {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final BookRepository bookRepository;
+    private final LoanStatusRegistry loanStatusRegistry;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BookExportService(BookRepository bookRepository,
+                             LoanStatusRegistry loanStatusRegistry,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.bookRepository = bookRepository;
+        this.loanStatusRegistry = loanStatusRegistry;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 내보낸 도서 수 반환
+    public long export(OutputStream outputStream) {
+        long start = System.currentTimeMillis();
+        OutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+
+        Long exported = readOnlyTransaction.execute(status -> {
+            long count = 0;
+            List<BookExportRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+            // 같은 도서의 태그 행은 연속해서 나오므로(ID 순) 다음 도서가 나오면 앞 도서를 완성
+            try (Stream<BookExportRow> rows = bookRepository.streamExportRows()) {
+                BookExportRecord current = null;
+                Iterator<BookExportRow> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    BookExportRow row = iterator.next();
+                    if (current == null || !current.id().equals(row.id())) {
+                        if (current != null) {
+                            chunk.add(current);
+                            if (chunk.size() == CHUNK_SIZE) {
+                                count += write(chunk, out);
+                            }
+                        }
+                        current = new BookExportRecord(row.id(), row.title(), row.author(), row.publishedDate(),
+                                new ArrayList<>(), false);
+                    }
+                    if (row.tagName() != null) {
+                        current.tags().add(row.tagName());
+                    }
+                }
+                if (current != null) {
+                    chunk.add(current);
+                }
+                count += write(chunk, out);
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("도서 내보내기 중 응답 쓰기 오류", e);
+            }
+            return count;
+        });
+
+        log.info("도서 내보내기 완료 - {}권, {}ms", exported, System.currentTimeMillis() - start);
+        return exported == null ? 0 : exported;
+    }
+
+    // 청크의 대출 여부는 SMISMEMBER 한 번으로 확인하고 쓴 뒤 비움
+    private int write(List<BookExportRecord> chunk, OutputStream out) throws IOException {
+        Map<Long, Boolean> borrowed = loanStatusRegistry.borrowedOf(chunk.stream().map(BookExportRecord::id).toList());
+        for (BookExportRecord record : chunk) {
+            BookExportRecord line = new BookExportRecord(record.id(), record.title(), record.author(),
+                    record.publishedDate(), record.tags(), borrowed.getOrDefault(record.id(), false));
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+        }
+        int written = chunk.size();
+        chunk.clear();
+        out.flush();
+        // 프로젝션 조회라 관리되는 엔티티는 없지만, 긴 트랜잭션 동안 영속성 컨텍스트가 커지지 않도록 주기적으로 비움
+        entityManager.clear();
+        return written;
+    }
+}
@@ -0,0 +1,23 @@
+package com.dahoon.qpbetask.book.bulk;
+
+import org.springframework.http.MediaType;
+
+// 일괄 등록 요청 본문 형식, Content-Type 으로 구분
+public enum BookImportFormat {
+    // 한 줄에 도서 하나 : {"title": "...", "author": "...", "publishedDate": "2024-01-01", "tags": ["소설"]}
+    NDJSON,
+    // 첫 줄은 헤더(title,author,publishedDate,tags 순서 무관), 태그는 '|' 로 구분
+    CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    public static BookImportFormat of(MediaType contentType) {
+        if (contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE))) {
+            return NDJSON;
+        }
+        if (contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+            return CSV;
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다. (application/x-ndjson, text/csv)");
+    }
+}
@@ -0,0 +1,160 @@
+package com.dahoon.qpbetask.book.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 요청 본문을 한 줄씩 읽어 도서로 변환 (전체를 메모리에 올리지 않음)
+// 형식이 잘못된 줄은 건너뛰고 줄 번호와 이유를 남김, CSV 는 따옴표 안의 줄바꿈을 지원하지 않음
+class BookImportReader {
+
+    private static final int MAX_ERRORS = 100;
+    // title, author, tag.name 컬럼 길이 (기본 VARCHAR(255)), 넘으면 청크 전체 INSERT 가 실패하므로 미리 건너뜀
+    private static final int MAX_LENGTH = 255;
+    private static final List<String> CSV_COLUMNS = List.of("title", "author", "publishedDate", "tags");
+
+    private final BufferedReader reader;
+    private final BookImportFormat format;
+    private final ObjectMapper objectMapper;
+    private final List<String> errors = new ArrayList<>();
+    private Map<String, Integer> csvColumns;
+    private long lineNumber;
+    private long skipped;
+
+    BookImportReader(BufferedReader reader, BookImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    // 다음 도서, 끝이면 null
+    BookImportRecord next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                if (format == BookImportFormat.CSV && csvColumns == null) {
+                    csvColumns = header(line);
+                    continue;
+                }
+                return validate(format == BookImportFormat.NDJSON ? parseJson(line) : parseCsv(line));
+            } catch (IllegalArgumentException e) {
+                if (csvColumns == null && format == BookImportFormat.CSV) {
+                    throw e;
+                }
+                skipped++;
+                if (errors.size() < MAX_ERRORS) {
+                    errors.add(lineNumber + "번째 줄 : " + e.getMessage());
+                }
+            }
+        }
+        return null;
+    }
+
+    long getSkipped() {
+        return skipped;
+    }
+
+    List<String> getErrors() {
+        return errors;
+    }
+
+    private BookImportRecord parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, BookImportRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("잘못된 JSON 입니다.");
+        }
+    }
+
+    private Map<String, Integer> header(String line) {
+        List<String> names = splitCsv(line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).strip(), i);
+        }
+        if (!columns.keySet().containsAll(CSV_COLUMNS.subList(0, 3))) {
+            throw new IllegalArgumentException("CSV 첫 줄에 title, author, publishedDate 헤더가 필요합니다.");
+        }
+        return columns;
+    }
+
+    private BookImportRecord parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        try {
+            String date = column(values, "publishedDate");
+            String tags = column(values, "tags");
+            return new BookImportRecord(column(values, "title"), column(values, "author"),
+                    date == null || date.isBlank() ? null : LocalDate.parse(date.strip()),
+                    tags == null ? List.of() : Arrays.asList(tags.split("\\|")));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("출판일 형식이 잘못되었습니다. (yyyy-MM-dd)");
+        }
+    }
+
+    private String column(List<String> values, String name) {
+        Integer index = csvColumns.get(name);
+        return index == null || index >= values.size() ? null : values.get(index);
+    }
+
+    private BookImportRecord validate(BookImportRecord record) {
+        if (record.title() == null || record.title().isBlank()) {
+            throw new IllegalArgumentException("도서 제목을 입력하세요");
+        }
+        if (record.author() == null || record.author().isBlank()) {
+            throw new IllegalArgumentException("도서 저자 이름을 입력하세요");
+        }
+        if (record.publishedDate() == null) {
+            throw new IllegalArgumentException("도서 출판일을 입력하세요");
+        }
+        if (record.title().length() > MAX_LENGTH || record.author().length() > MAX_LENGTH
+                || record.tags().stream().anyMatch(tag -> tag.length() > MAX_LENGTH)) {
+            throw new IllegalArgumentException("제목, 저자, 태그는 " + MAX_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        return record;
+    }
+
+    // 쉼표로 나누되 따옴표로 감싼 값 안의 쉼표와 "" 는 값으로 취급
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
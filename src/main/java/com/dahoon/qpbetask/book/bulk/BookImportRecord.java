@@ -0,0 +1,20 @@
+package com.dahoon.qpbetask.book.bulk;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 일괄 등록할 도서 한 건
+// 내보내기(/export) 결과를 그대로 다시 등록할 수 있도록 id, borrowed 등 모르는 필드는 무시
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BookImportRecord(String title, String author, LocalDate publishedDate, List<String> tags) {
+
+    public BookImportRecord {
+        tags = tags == null ? List.of() : tags.stream()
+                .filter(tag -> tag != null && !tag.isBlank())
+                .map(String::strip)
+                .distinct()
+                .toList();
+    }
+}
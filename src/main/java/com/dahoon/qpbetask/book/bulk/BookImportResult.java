@@ -0,0 +1,8 @@
+package com.dahoon.qpbetask.book.bulk;
+
+import java.util.List;
+
+// 일괄 등록 결과, errors 는 건너뛴 줄 중 앞쪽 일부만 담음
+public record BookImportResult(long imported, long tagLinks, long skipped, List<String> errors,
+                               long elapsedMillis, long booksPerSecond) {
+}
@@ -0,0 +1,197 @@
+package com.dahoon.qpbetask.book.bulk;
+
+import com.dahoon.qpbetask.book.entity.Tag;
+import com.dahoon.qpbetask.book.repository.BookJdbcRepository;
+import com.dahoon.qpbetask.book.repository.BookTagJdbcRepository;
+import com.dahoon.qpbetask.book.repository.TagRepository;
+import com.dahoon.qpbetask.book.search.BookSearchIndexSynchronizer;
+import com.dahoon.qpbetask.common.cache.CacheGenerations;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// 도서 일괄 등록 : 요청 본문을 스트리밍으로 읽어 chunk-size 권마다 한 트랜잭션으로 커밋
+// 도서/태그/도서-태그 INSERT 는 batch-size 개씩 JDBC 배치로 전송
+// 건별 등록과 달리 캐시 무효화와 검색 색인 갱신은 모든 청크를 커밋한 뒤 한 번만 수행
+// 등록한 도서가 incremental-index-limit 권 이하면 건별 색인 메시지로, 넘으면 전체 재생성(백그라운드)으로 색인에 반영
+@Service
+@Slf4j
+public class BookImportService {
+
+    private final BookJdbcRepository bookJdbcRepository;
+    private final BookTagJdbcRepository bookTagJdbcRepository;
+    private final TagRepository tagRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheGenerations cacheGenerations;
+    private final BookSearchIndexSynchronizer bookSearchIndexSynchronizer;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int chunkSize;
+    private final int incrementalIndexLimit;
+
+    public BookImportService(BookJdbcRepository bookJdbcRepository,
+                             BookTagJdbcRepository bookTagJdbcRepository,
+                             TagRepository tagRepository,
+                             TransactionTemplate transactionTemplate,
+                             CacheGenerations cacheGenerations,
+                             BookSearchIndexSynchronizer bookSearchIndexSynchronizer,
+                             ObjectMapper objectMapper,
+                             @Value("${book.import.batch-size:500}") int batchSize,
+                             @Value("${book.import.chunk-size:5000}") int chunkSize,
+                             @Value("${book.import.incremental-index-limit:1000}") int incrementalIndexLimit) {
+        this.bookJdbcRepository = bookJdbcRepository;
+        this.bookTagJdbcRepository = bookTagJdbcRepository;
+        this.tagRepository = tagRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheGenerations = cacheGenerations;
+        this.bookSearchIndexSynchronizer = bookSearchIndexSynchronizer;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.incrementalIndexLimit = incrementalIndexLimit;
+    }
+
+    // 커밋한 청크의 도서 ID 와 도서별로 실제 연결한 태그 이름
+    private record ChunkResult(long[] bookIds, List<List<String>> tags, long tagLinks) {
+    }
+
+    private record ImportedBook(Long id, String title, String author, List<String> tags) {
+    }
+
+    // 중간에 실패하면 이미 커밋한 청크는 남고, 그만큼도 캐시/색인에 반영
+    public BookImportResult importBooks(InputStream body, BookImportFormat format) {
+        long start = System.nanoTime();
+        BookImportReader reader = new BookImportReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), format, objectMapper);
+
+        List<BookImportRecord> chunk = new ArrayList<>(chunkSize);
+        // 색인에 건별로 반영할 도서, 한도를 넘으면 null (전체 재생성)
+        List<ImportedBook> importedBooks = new ArrayList<>();
+        long imported = 0;
+        long tagLinks = 0;
+        try {
+            BookImportRecord record;
+            while ((record = reader.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    ChunkResult result = writeChunk(chunk);
+                    tagLinks += result.tagLinks();
+                    imported += chunk.size();
+                    importedBooks = collect(importedBooks, chunk, result);
+                    chunk.clear();
+                    log.info("도서 일괄 등록 진행 - {}권, {}권/초", imported, booksPerSecond(imported, start));
+                }
+            }
+            if (!chunk.isEmpty()) {
+                ChunkResult result = writeChunk(chunk);
+                tagLinks += result.tagLinks();
+                imported += chunk.size();
+                importedBooks = collect(importedBooks, chunk, result);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("요청 본문을 읽는 중 오류가 발생했습니다.", e);
+        } finally {
+            // 실패해도 이미 커밋한 청크는 반영, 여기서 난 오류는 로그만 남겨 원래 예외를 가리지 않음
+            if (imported > 0) {
+                invalidate(importedBooks);
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("도서 일괄 등록 완료 - {}권, 태그 연결 {}개, 건너뜀 {}줄, {}ms, {}권/초",
+                imported, tagLinks, reader.getSkipped(), elapsedMillis, booksPerSecond(imported, start));
+        return new BookImportResult(imported, tagLinks, reader.getSkipped(), reader.getErrors(),
+                elapsedMillis, booksPerSecond(imported, start));
+    }
+
+    // 청크 하나를 한 트랜잭션으로 저장
+    private ChunkResult writeChunk(List<BookImportRecord> chunk) {
+        return transactionTemplate.execute(status -> {
+            long[] bookIds = bookJdbcRepository.insertBooks(chunk, batchSize);
+
+            Set<String> names = new LinkedHashSet<>();
+            chunk.forEach(record -> names.addAll(record.tags()));
+            if (names.isEmpty()) {
+                return new ChunkResult(bookIds, Collections.nCopies(chunk.size(), List.of()), 0);
+            }
+
+            // BookService.addTags 와 같은 방식 : 없는 태그만 INSERT IGNORE 후 잠금 읽기로 ID 조회
+            Map<String, Long> tagIds = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            bookTagJdbcRepository.insertTagsIgnoringDuplicates(names);
+            for (Tag tag : tagRepository.findForShareByNameIn(names)) {
+                tagIds.put(tag.getName(), tag.getId());
+            }
+
+            List<long[]> bookTagIds = new ArrayList<>();
+            List<List<String>> linkedTags = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                Set<Long> linked = new LinkedHashSet<>();
+                List<String> linkedNames = new ArrayList<>();
+                for (String tag : chunk.get(i).tags()) {
+                    Long tagId = tagIds.get(tag);
+                    if (tagId != null && linked.add(tagId)) {
+                        bookTagIds.add(new long[]{bookIds[i], tagId});
+                        linkedNames.add(tag);
+                    }
+                }
+                linkedTags.add(linkedNames);
+            }
+            bookTagJdbcRepository.insertBookTagsIgnoringDuplicates(bookTagIds, batchSize);
+            return new ChunkResult(bookIds, linkedTags, bookTagIds.size());
+        });
+    }
+
+    private List<ImportedBook> collect(List<ImportedBook> importedBooks, List<BookImportRecord> chunk, ChunkResult result) {
+        if (importedBooks == null || importedBooks.size() + chunk.size() > incrementalIndexLimit) {
+            return null;
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            BookImportRecord record = chunk.get(i);
+            importedBooks.add(new ImportedBook(result.bookIds()[i], record.title(), record.author(), result.tags().get(i)));
+        }
+        return importedBooks;
+    }
+
+    // 새 도서의 '없는 도서' 캐시(book)는 짧은 TTL(30초)로 만료되도록 둠 (수십만 건을 하나씩 지우지 않음)
+    private void invalidate(List<ImportedBook> importedBooks) {
+        try {
+            // 목록/검색 결과 캐시는 모두 books 세대 번호를 키에 사용
+            cacheGenerations.bump("books");
+
+            if (importedBooks == null) {
+                bookSearchIndexSynchronizer.rebuildAll();
+                log.info("일괄 등록 후 검색 색인 재생성 요청");
+                return;
+            }
+            for (ImportedBook book : importedBooks) {
+                bookSearchIndexSynchronizer.bookAdded(book.id(), book.title(), book.author());
+                if (!book.tags().isEmpty()) {
+                    bookSearchIndexSynchronizer.tagsAdded(book.id(), book.tags());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("일괄 등록 후 캐시/검색 색인 갱신 실패 - 색인은 다음 재생성 때 반영", e);
+        }
+    }
+
+    private static long booksPerSecond(long books, long startNanos) {
+        long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+        return books * 1_000_000_000L / elapsedNanos;
+    }
+}
@@ -0,0 +1,102 @@
+package com.dahoon.qpbetask.book.cache;
+
+import com.dahoon.qpbetask.book.BookService;
+import com.dahoon.qpbetask.common.cache.CacheAccessRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// 기동 직후 자주 조회되는 도서 캐시를 미리 채움
+// 워밍업이 끝나기 전까지 /actuator/health 는 OUT_OF_SERVICE 를 반환
+@Component("cacheWarmup")
+@Slf4j
+public class BookCacheWarmer implements ApplicationRunner, HealthIndicator {
+
+    private static final List<String> SORTS = List.of("title", "date");
+
+    private final BookService bookService;
+    private final CacheAccessRecorder cacheAccessRecorder;
+    private final boolean enabled;
+    private final int pages;
+    private final int hotKeys;
+    private final int concurrency;
+    private final long timeoutSeconds;
+
+    private volatile boolean warmedUp;
+
+    public BookCacheWarmer(BookService bookService,
+                           CacheAccessRecorder cacheAccessRecorder,
+                           @Value("${cache.warmup.enabled:true}") boolean enabled,
+                           @Value("${cache.warmup.pages:5}") int pages,
+                           @Value("${cache.warmup.hot-keys:100}") int hotKeys,
+                           @Value("${cache.warmup.concurrency:4}") int concurrency,
+                           @Value("${cache.warmup.timeout-seconds:60}") long timeoutSeconds) {
+        this.bookService = bookService;
+        this.cacheAccessRecorder = cacheAccessRecorder;
+        this.enabled = enabled;
+        this.pages = pages;
+        this.hotKeys = hotKeys;
+        this.concurrency = concurrency;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            warmedUp = true;
+            return;
+        }
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (String sort : SORTS) {
+            for (int page = 0; page < pages; page++) {
+                int p = page;
+                tasks.add(() -> bookService.showBookPage(p, sort));
+            }
+        }
+
+        // 어떤 키를 채울지는 기록된 조회 통계에서 가져옴
+        for (String key : cacheAccessRecorder.topKeys("book", hotKeys)) {
+            tasks.add(() -> bookService.showBook(Long.parseLong(key)));
+        }
+
+        long start = System.currentTimeMillis();
+        int failed = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("cache-warmup-"));
+        try {
+            for (Future<Object> future : executor.invokeAll(tasks, timeoutSeconds, TimeUnit.SECONDS)) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    // 삭제된 도서 등은 건너뜀
+                    failed++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        warmedUp = true;
+        log.info("캐시 워밍업 완료 - {}개 중 실패 {}개, {}ms", tasks.size(), failed, System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public Health health() {
+        return warmedUp ? Health.up().build() : Health.outOfService().withDetail("cache", "warming up").build();
+    }
+}
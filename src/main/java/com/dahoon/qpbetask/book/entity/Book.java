@@ -12,7 +12,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+// 목록 키셋 페이지네이션용 복합 인덱스 (정렬 기준, book_id)
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_book_title_id", columnList = "title, book_id"),
+        @Index(name = "idx_book_published_date_id", columnList = "published_date, book_id")
+})
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder(toBuilder = true)
@@ -7,7 +7,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 같은 도서에 같은 태그가 두 번 붙지 않도록 (book_id, tag_id) 유니크 인덱스
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_book_tag_book_tag", columnNames = {"book_id", "tag_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class BookTag {
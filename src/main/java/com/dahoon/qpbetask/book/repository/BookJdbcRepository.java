@@ -0,0 +1,49 @@
+package com.dahoon.qpbetask.book.repository;
+
+import com.dahoon.qpbetask.book.bulk.BookImportRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+// 도서 일괄 INSERT, IDENTITY 키라 Hibernate 로는 JDBC 배치가 되지 않아 직접 배치로 보내고 생성된 ID 를 받아옴
+@Repository
+@RequiredArgsConstructor
+public class BookJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 입력 순서대로 생성된 도서 ID
+    public long[] insertBooks(List<BookImportRecord> books, int batchSize) {
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            long[] ids = new long[books.size()];
+            int count = 0;
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO book (title, author, published_date) VALUES (?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+                for (int from = 0; from < books.size(); from += batchSize) {
+                    for (BookImportRecord book : books.subList(from, Math.min(from + batchSize, books.size()))) {
+                        ps.setString(1, book.title());
+                        ps.setString(2, book.author());
+                        ps.setObject(3, book.publishedDate());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            ids[count++] = keys.getLong(1);
+                        }
+                    }
+                }
+            }
+            if (count != books.size()) {
+                throw new IllegalStateException("생성된 도서 ID 수가 맞지 않습니다. (" + count + "/" + books.size() + ")");
+            }
+            return ids;
+        });
+    }
+}
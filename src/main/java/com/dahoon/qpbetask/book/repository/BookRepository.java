@@ -1,32 +1,159 @@
 package com.dahoon.qpbetask.book.repository;
 
+import com.dahoon.qpbetask.book.bulk.BookExportRow;
 import com.dahoon.qpbetask.book.entity.Book;
+import com.dahoon.qpbetask.book.search.BookSearchRow;
+import com.dahoon.qpbetask.book.search.BookTagRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
     Page<Book> findAll(Pageable pageable);
 
-    Optional<Book> findById(Long id);
+    // 전체 개수가 필요 없는 페이지 조회 (COUNT 쿼리 없음)
+    Slice<Book> findSliceBy(Pageable pageable);
+
+    // 목록 키셋 페이지네이션, (정렬 기준, ID) 복합 인덱스를 커서 위치부터 limit 개만 읽음
+    List<Book> findByOrderByTitleAscIdAsc(Limit limit);
 
-    List<Book> findByTitleContaining(String title);
+    @Query("SELECT b " +
+            "FROM Book b " +
+            "WHERE (b.title, b.id) > (:title, :lastId) " +
+            "ORDER BY b.title, b.id")
+    List<Book> findByTitleAfter(@Param("title") String title, @Param("lastId") Long lastId, Limit limit);
 
-    List<Book> findByAuthorContaining(String author);
+    List<Book> findByOrderByPublishedDateAscIdAsc(Limit limit);
 
     @Query("SELECT b " +
+            "FROM Book b " +
+            "WHERE (b.publishedDate, b.id) > (:publishedDate, :lastId) " +
+            "ORDER BY b.publishedDate, b.id")
+    List<Book> findByPublishedDateAfter(@Param("publishedDate") LocalDate publishedDate, @Param("lastId") Long lastId, Limit limit);
+
+    Optional<Book> findById(Long id);
+
+    // 단건 조회/수정 응답용, 태그까지 한 번의 쿼리로 조회
+    @EntityGraph(attributePaths = {"bookTags", "bookTags.tag"})
+    Optional<Book> findWithTagsById(Long id);
+
+    // 여러 도서를 태그까지 한 번의 쿼리로 조회
+    @Query("SELECT DISTINCT b " +
+            "FROM Book b " +
+            "LEFT JOIN FETCH b.bookTags bt " +
+            "LEFT JOIN FETCH bt.tag " +
+            "WHERE b.id IN (:ids)")
+    List<Book> findAllWithTagsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 결과 한 페이지, 커서(마지막 ID) 이후부터 PK 순서로 limit 개만 조회
+    List<Book> findByTitleContainingAndIdGreaterThanOrderByIdAsc(String title, Long lastId, Limit limit);
+
+    List<Book> findByAuthorContainingAndIdGreaterThanOrderByIdAsc(String author, Long lastId, Limit limit);
+
+    // 검색 색인 후보 중 실제로 포함하는 도서만 확인 (PK 로 찾은 행만 LIKE 비교)
+    List<Book> findByIdInAndTitleContainingOrderByIdAsc(Collection<Long> ids, String title, Limit limit);
+
+    List<Book> findByIdInAndAuthorContainingOrderByIdAsc(Collection<Long> ids, String author, Limit limit);
+
+    // FULLTEXT(ngram parser) 검색, 관련도 높은 순 (BookFulltextIndex 가 인덱스를 만든 경우에만 사용)
+    // 관련도는 검색어마다 새로 계산되는 값이라 키로 이어 읽을 수 없으므로 OFFSET 으로 페이지를 나눔
+    @Query(value = "SELECT * FROM book " +
+            "WHERE MATCH(title) AGAINST(:keyword IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(title) AGAINST(:keyword IN BOOLEAN MODE) DESC, book_id " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<Book> searchByTitleFulltext(@Param("keyword") String keyword, @Param("offset") long offset, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM book " +
+            "WHERE MATCH(author) AGAINST(:keyword IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(author) AGAINST(:keyword IN BOOLEAN MODE) DESC, book_id " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<Book> searchByAuthorFulltext(@Param("keyword") String keyword, @Param("offset") long offset, @Param("limit") int limit);
+
+    // 검색 색인 생성용, ID 기준으로 이어서 읽음
+    @Query("SELECT new com.dahoon.qpbetask.book.search.BookSearchRow(b.id, b.title, b.author) " +
+            "FROM Book b " +
+            "WHERE b.id > :lastId " +
+            "ORDER BY b.id")
+    List<BookSearchRow> findSearchRowsAfter(@Param("lastId") long lastId, Pageable pageable);
+
+    // 전체 도서 내보내기용 (도서 x 태그) 행, ID 순서
+    // MySQL 은 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 번에 받지 않고 행 단위로 스트리밍함
+    // 스트림을 다 읽거나 닫기 전까지 같은 커넥션으로 다른 쿼리를 실행할 수 없음
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.dahoon.qpbetask.book.bulk.BookExportRow(b.id, b.title, b.author, b.publishedDate, t.name) " +
+            "FROM Book b " +
+            "LEFT JOIN b.bookTags bt " +
+            "LEFT JOIN bt.tag t " +
+            "ORDER BY b.id")
+    Stream<BookExportRow> streamExportRows();
+
+    // 태그 비트맵 색인이 없을 때 사용하는 태그 필터링, 커서(마지막 ID) 이후 limit 개의 ID 만 조회
+    @Query("SELECT b.id " +
             "FROM Book b " +
             "JOIN b.bookTags bt " +
             "JOIN bt.tag t " +
+            "WHERE t.name IN (:tagNames) AND b.id > :lastId " +
+            "GROUP BY b.id " +
+            "HAVING COUNT(DISTINCT t) = :tagCount " +
+            "ORDER BY b.id")
+    List<Long> findIdsByTags(@Param("tagNames") Collection<String> tags, @Param("tagCount") long tagCount,
+                             @Param("lastId") long lastId, Limit limit);
+
+    // 통합 검색 조건, 값이 null 인 조건(태그는 tagCount = 0)은 비교하지 않음
+    // 제목/저자의 %, _ 는 '!' 로 이스케이프해서 넘김 (MySQL 문자열에서 '\' 는 다시 이스케이프가 필요해 사용하지 않음)
+    String CRITERIA = "(:title IS NULL OR b.title LIKE CONCAT('%', :title, '%') ESCAPE '!') " +
+            "AND (:author IS NULL OR b.author LIKE CONCAT('%', :author, '%') ESCAPE '!') " +
+            "AND (:from IS NULL OR b.publishedDate >= :from) " +
+            "AND (:to IS NULL OR b.publishedDate <= :to) " +
+            "AND (:tagCount = 0 OR b.id IN (" +
+            "SELECT bt.book.id FROM BookTag bt JOIN bt.tag t " +
             "WHERE t.name IN (:tagNames) " +
-            "GROUP BY b " +
-            "HAVING COUNT(DISTINCT t) = :tagCount")
-    List<Book> findByTags(@Param("tagNames") List<String> tags, @Param("tagCount") int tagCount);
+            "GROUP BY bt.book.id " +
+            "HAVING COUNT(DISTINCT t) = :tagCount))";
+
+    // 메모리 색인으로 좁힐 수 없을 때, 커서(마지막 ID) 이후 모든 조건을 만족하는 limit 개의 ID
+    @Query("SELECT b.id " +
+            "FROM Book b " +
+            "WHERE b.id > :lastId AND " + CRITERIA + " " +
+            "ORDER BY b.id")
+    List<Long> findIdsByCriteria(@Param("title") String title, @Param("author") String author,
+                                 @Param("from") LocalDate from, @Param("to") LocalDate to,
+                                 @Param("tagNames") Collection<String> tagNames, @Param("tagCount") long tagCount,
+                                 @Param("lastId") long lastId, Limit limit);
+
+    // 메모리 색인으로 좁힌 후보 중 나머지 조건을 만족하는 ID (PK 로 찾은 행만 비교)
+    @Query("SELECT b.id " +
+            "FROM Book b " +
+            "WHERE b.id IN (:ids) AND " + CRITERIA + " " +
+            "ORDER BY b.id")
+    List<Long> findIdsByIdInAndCriteria(@Param("ids") Collection<Long> ids,
+                                        @Param("title") String title, @Param("author") String author,
+                                        @Param("from") LocalDate from, @Param("to") LocalDate to,
+                                        @Param("tagNames") Collection<String> tagNames, @Param("tagCount") long tagCount,
+                                        Limit limit);
+
+    // 목록 응답용 태그 이름, 페이지의 도서 ID 로 한 번에 조회 (LIMIT 이 있는 목록 쿼리에 컬렉션 fetch join 을 쓰면 메모리에서 페이징됨)
+    @Query("SELECT new com.dahoon.qpbetask.book.search.BookTagRow(bt.id, bt.book.id, t.name) " +
+            "FROM BookTag bt " +
+            "JOIN bt.tag t " +
+            "WHERE bt.book.id IN (:bookIds)")
+    List<BookTagRow> findTagRowsByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
 
     @Query("SELECT t.name " +
             "FROM BookTag bt " +
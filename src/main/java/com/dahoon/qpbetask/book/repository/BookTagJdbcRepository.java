@@ -0,0 +1,38 @@
+package com.dahoon.qpbetask.book.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+// 태그 추가용 일괄 INSERT, IDENTITY 키라 Hibernate 로는 JDBC 배치가 되지 않아 JdbcTemplate 로 한 번에 보냄
+// 유니크 인덱스(uk_tag_name, uk_book_tag_book_tag)에 걸리는 행은 INSERT IGNORE 로 건너뛰어 동시 추가에도 중복 행이 생기지 않음
+@Repository
+@RequiredArgsConstructor
+public class BookTagJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertTagsIgnoringDuplicates(Collection<String> names) {
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO tag (name) VALUES (?)",
+                names.stream().map(name -> new Object[]{name}).toList());
+    }
+
+    public void insertBookTagsIgnoringDuplicates(Long bookId, Collection<Long> tagIds) {
+        List<Object[]> rows = tagIds.stream()
+                .map(tagId -> new Object[]{bookId, tagId})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO book_tag (book_id, tag_id) VALUES (?, ?)", rows);
+    }
+
+    // (book_id, tag_id) 쌍을 batchSize 개씩 나눠 전송
+    public void insertBookTagsIgnoringDuplicates(List<long[]> bookTagIds, int batchSize) {
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO book_tag (book_id, tag_id) VALUES (?, ?)", bookTagIds, batchSize,
+                (ps, pair) -> {
+                    ps.setLong(1, pair[0]);
+                    ps.setLong(2, pair[1]);
+                });
+    }
+}
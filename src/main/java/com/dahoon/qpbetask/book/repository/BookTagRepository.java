@@ -1,10 +1,50 @@
 package com.dahoon.qpbetask.book.repository;
 
-import com.dahoon.qpbetask.book.entity.Book;
 import com.dahoon.qpbetask.book.entity.BookTag;
 import com.dahoon.qpbetask.book.entity.Tag;
+import com.dahoon.qpbetask.book.search.BookTagRow;
+import com.dahoon.qpbetask.book.search.TagFacet;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface BookTagRepository extends JpaRepository<BookTag, Long> {
-    boolean existsByBookAndTag(Book book, Tag tag);
+    // 도서에 이미 붙은 태그, 쿼리로 읽으므로 같은 트랜잭션에서 JDBC 로 추가한 행도 포함
+    @Query("SELECT t " +
+            "FROM BookTag bt " +
+            "JOIN bt.tag t " +
+            "WHERE bt.book.id = :bookId")
+    List<Tag> findTagsByBookId(@Param("bookId") Long bookId);
+
+    // 태그 비트맵 색인이 없을 때 사용하는 태그별 도서 수 집계
+    @Query("SELECT new com.dahoon.qpbetask.book.search.TagFacet(t.name, COUNT(bt)) " +
+            "FROM BookTag bt " +
+            "JOIN bt.tag t " +
+            "GROUP BY t.name")
+    List<TagFacet> countAllByTag();
+
+    @Query("SELECT new com.dahoon.qpbetask.book.search.TagFacet(t.name, COUNT(bt)) " +
+            "FROM BookTag bt " +
+            "JOIN bt.tag t " +
+            "WHERE t.name NOT IN (:tagNames) AND bt.book.id IN (" +
+            "    SELECT fbt.book.id " +
+            "    FROM BookTag fbt " +
+            "    JOIN fbt.tag ft " +
+            "    WHERE ft.name IN (:tagNames) " +
+            "    GROUP BY fbt.book.id " +
+            "    HAVING COUNT(DISTINCT ft) = :tagCount) " +
+            "GROUP BY t.name")
+    List<TagFacet> countByTagWithin(@Param("tagNames") Collection<String> tags, @Param("tagCount") long tagCount);
+
+    // 태그 비트맵 색인 생성용, ID 기준으로 이어서 읽음
+    @Query("SELECT new com.dahoon.qpbetask.book.search.BookTagRow(bt.id, bt.book.id, t.name) " +
+            "FROM BookTag bt " +
+            "JOIN bt.tag t " +
+            "WHERE bt.id > :lastId " +
+            "ORDER BY bt.id")
+    List<BookTagRow> findTagRowsAfter(@Param("lastId") long lastId, Pageable pageable);
 }
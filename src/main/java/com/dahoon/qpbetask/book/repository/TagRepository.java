@@ -1,10 +1,20 @@
 package com.dahoon.qpbetask.book.repository;
 
 import com.dahoon.qpbetask.book.entity.Tag;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String name);
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // 잠금 읽기(FOR SHARE)는 트랜잭션 시작 이후 다른 트랜잭션이 커밋한 행도 읽음 (REPEATABLE READ 스냅샷을 거치지 않음)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    List<Tag> findForShareByNameIn(Collection<String> names);
 }
@@ -0,0 +1,64 @@
+package com.dahoon.qpbetask.book.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// book.title / book.author 의 FULLTEXT(ngram parser) 인덱스 관리
+// JPA 로는 FULLTEXT 인덱스를 만들 수 없으므로 기동 시 없으면 생성 (대용량 테이블은 생성에 시간이 걸리므로 설정으로 켬)
+@Component
+@Slf4j
+public class BookFulltextIndex implements ApplicationRunner {
+
+    // 인덱스 이름 -> 컬럼
+    private static final Map<String, String> INDEXES = Map.of(
+            "ft_book_title", "title",
+            "ft_book_author", "author");
+    // ngram_token_size 기본값, 이보다 짧은 검색어는 FULLTEXT 로 찾을 수 없음
+    public static final int MIN_KEYWORD_LENGTH = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    private volatile boolean available;
+
+    public BookFulltextIndex(JdbcTemplate jdbcTemplate,
+                             @Value("${book.search.fulltext.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        INDEXES.forEach((indexName, column) -> {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND table_name = 'book' AND index_name = ?",
+                    Integer.class, indexName);
+            if (count == null || count == 0) {
+                long start = System.currentTimeMillis();
+                jdbcTemplate.execute("ALTER TABLE book ADD FULLTEXT INDEX " + indexName + " (" + column + ") WITH PARSER ngram");
+                log.info("FULLTEXT 인덱스 생성 - {}, {}ms", indexName, System.currentTimeMillis() - start);
+            }
+        });
+        available = true;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    // 검색어 전체를 연속된 구문으로 찾도록 BOOLEAN MODE 구문 검색어로 변환 (LIKE '%검색어%' 와 같은 결과)
+    public static String phrase(String keyword) {
+        return "\"" + keyword.replace("\"", " ").trim() + "\"";
+    }
+}
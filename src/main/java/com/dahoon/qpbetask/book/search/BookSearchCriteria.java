@@ -0,0 +1,36 @@
+package com.dahoon.qpbetask.book.search;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 통합 검색 조건, 비어 있는 조건(null, 공백)은 적용하지 않음
+// 제목/저자는 부분 일치, 태그는 모두 포함, 출판일은 from ~ to (양 끝 포함)
+public record BookSearchCriteria(String title, String author, Set<String> tags, LocalDate from, LocalDate to) {
+
+    public static BookSearchCriteria of(String title, String author, Collection<String> tags, LocalDate from, LocalDate to) {
+        // 태그 이름은 대소문자를 구분하지 않음
+        Set<String> uniqueTags = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        if (tags != null) {
+            tags.stream()
+                    .filter(tag -> !tag.isBlank())
+                    .forEach(uniqueTags::add);
+        }
+        return new BookSearchCriteria(blankToNull(title), blankToNull(author), uniqueTags, from, to);
+    }
+
+    public boolean isEmpty() {
+        return title == null && author == null && tags.isEmpty() && from == null && to == null;
+    }
+
+    // DB 의 IN 절은 빈 목록을 받을 수 없어, 태그 조건이 없으면 사용되지 않는 값 하나를 넘김 (tagCount = 0 이면 비교하지 않음)
+    public List<String> tagNames() {
+        return tags.isEmpty() ? List.of("") : List.copyOf(tags);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,178 @@
+package com.dahoon.qpbetask.book.search;
+
+import com.dahoon.qpbetask.book.repository.BookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 제목/저자 부분 검색용 메모리 n-gram 색인
+// 기동 시 ID 순서로 나눠 읽어 만들고, 도서 등록/수정/삭제 커밋 이후 바로 반영 (다른 노드는 BookSearchIndexSynchronizer 로 반영)
+// 색인은 후보만 고르고 실제 포함 여부는 DB 에서 후보 ID 로만 확인하므로, 색인에 남은 이전 값 때문에 잘못된 도서가 나오지는 않음
+// 반대로 색인에 아직 없는 도서는 DB 에서 확인할 기회 없이 결과에서 빠짐
+// (다른 노드의 변경 메시지가 도착하기 전, 메시지 유실, SQL 로 직접 넣은 데이터는 다음 rebuild 전까지)
+@Component
+@Slf4j
+public class BookSearchIndex implements ApplicationRunner {
+
+    public enum Field {
+        TITLE, AUTHOR
+    }
+
+    private static final int SCAN_BATCH_SIZE = 5_000;
+
+    private static class Indexes {
+        private final NgramIndex title = new NgramIndex();
+        private final NgramIndex author = new NgramIndex();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        void add(List<BookSearchRow> rows) {
+            lock.writeLock().lock();
+            try {
+                for (BookSearchRow row : rows) {
+                    title.add(Math.toIntExact(row.id()), row.title());
+                    author.add(Math.toIntExact(row.id()), row.author());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(BookSearchRow row) {
+            lock.writeLock().lock();
+            try {
+                title.remove(Math.toIntExact(row.id()), row.title());
+                author.remove(Math.toIntExact(row.id()), row.author());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int[] search(Field field, String keyword) {
+            lock.readLock().lock();
+            try {
+                return (field == Field.TITLE ? title : author).search(keyword);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    private final BookRepository bookRepository;
+    private final boolean enabled;
+    // 재생성이 겹치면 building 을 서로 덮어써 그동안의 변경이 버려지는 색인에만 반영되므로 한 번에 하나만 실행
+    // (새벽 cron 과 일괄 등록의 REBUILD 메시지가 겹칠 수 있음)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final int maxCandidates;
+
+    // 생성이 끝나기 전에는 null (DB LIKE 검색 사용)
+    private volatile Indexes current;
+    // 다시 만드는 중인 색인, 그동안의 변경도 함께 반영
+    private Indexes building;
+
+    public BookSearchIndex(BookRepository bookRepository,
+                           @Value("${book.search.index.enabled:true}") boolean enabled,
+                           @Value("${book.search.index.max-candidates:5000}") int maxCandidates) {
+        this.bookRepository = bookRepository;
+        this.enabled = enabled;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // SQL 로 직접 넣은 데이터나 유실된 변경 메시지를 반영하기 위해 트래픽이 적은 시간에 다시 만듦
+    @Scheduled(cron = "${book.search.index.rebuild-cron:0 0 5 * * *}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        rebuildLock.lock();
+        try {
+            build();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void build() {
+        long start = System.currentTimeMillis();
+        Indexes next = new Indexes();
+        synchronized (this) {
+            building = next;
+        }
+
+        long lastId = 0;
+        int count = 0;
+        List<BookSearchRow> rows;
+        do {
+            rows = bookRepository.findSearchRowsAfter(lastId, PageRequest.of(0, SCAN_BATCH_SIZE));
+            next.add(rows);
+            count += rows.size();
+            if (!rows.isEmpty()) {
+                lastId = rows.get(rows.size() - 1).id();
+            }
+        } while (rows.size() == SCAN_BATCH_SIZE);
+
+        synchronized (this) {
+            current = next;
+            building = null;
+        }
+        log.info("도서 검색 색인 생성 - {}권, 제목 키 {}개, 저자 키 {}개, {}ms", count,
+                next.title.keyCount(), next.author.keyCount(), System.currentTimeMillis() - start);
+    }
+
+    public synchronized void add(Long id, String title, String author) {
+        for (Indexes indexes : targets()) {
+            indexes.add(List.of(new BookSearchRow(id, title, author)));
+        }
+    }
+
+    public synchronized void update(Long id, String oldTitle, String oldAuthor, String title, String author) {
+        for (Indexes indexes : targets()) {
+            indexes.remove(new BookSearchRow(id, oldTitle, oldAuthor));
+            indexes.add(List.of(new BookSearchRow(id, title, author)));
+        }
+    }
+
+    public synchronized void remove(Long id, String title, String author) {
+        for (Indexes indexes : targets()) {
+            indexes.remove(new BookSearchRow(id, title, author));
+        }
+    }
+
+    // 후보 도서 ID (오름차순), 색인이 없거나 검색어가 짧거나 후보가 너무 많으면 empty
+    public Optional<List<Long>> candidates(Field field, String keyword) {
+        Indexes indexes = current;
+        if (indexes == null) {
+            return Optional.empty();
+        }
+
+        int[] ids = indexes.search(field, keyword);
+        if (ids == null || ids.length > maxCandidates) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.stream(ids).mapToObj(id -> (long) id).toList());
+    }
+
+    private List<Indexes> targets() {
+        if (building == null) {
+            return current == null ? List.of() : List.of(current);
+        }
+        return current == null ? List.of(building) : List.of(current, building);
+    }
+}
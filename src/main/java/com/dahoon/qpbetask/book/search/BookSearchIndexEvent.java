@@ -0,0 +1,20 @@
+package com.dahoon.qpbetask.book.search;
+
+import java.util.List;
+
+// 노드 간 검색 색인 변경 메시지, 추가면 old* 가 null, 삭제면 title/author 가 삭제 전 값
+// tags 는 TAGS_ADDED 면 추가된 태그, DELETED 면 삭제된 도서의 태그
+// REBUILD 는 일괄 등록처럼 변경이 많을 때 건별 반영 대신 모든 색인을 DB 에서 백그라운드로 다시 만듦 (나머지 값은 null)
+public record BookSearchIndexEvent(Type type,
+                                   Long id,
+                                   String title,
+                                   String author,
+                                   String oldTitle,
+                                   String oldAuthor,
+                                   List<String> tags,
+                                   String origin) {
+
+    public enum Type {
+        ADDED, UPDATED, DELETED, TAGS_ADDED, REBUILD
+    }
+}
@@ -0,0 +1,146 @@
+package com.dahoon.qpbetask.book.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 도서/태그 변경을 이 노드의 검색 색인(n-gram, 초성, 태그 비트맵, 자동완성)에 반영하고 pub/sub 으로 다른 노드에도 전달
+// 커밋 이후(afterCommit)에 호출
+@Component
+@Slf4j
+public class BookSearchIndexSynchronizer implements MessageListener, DisposableBean {
+
+    public static final String CHANNEL = "bookSearchIndexChannel";
+
+    private final BookSearchIndex bookSearchIndex;
+    private final ChosungIndex chosungIndex;
+    private final TagBitmapIndex tagBitmapIndex;
+    private final SuggestIndex suggestIndex;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 전체 재생성은 요청/리스너 스레드를 붙잡지 않도록 전용 스레드 하나에서 실행
+    // 실행 중 하나 + 대기 하나만 두고 나머지는 버림 (대기 중인 재생성이 시작할 때 DB 를 새로 읽으므로 그 사이의 요청도 반영됨)
+    private final ThreadPoolExecutor rebuildExecutor = new ThreadPoolExecutor(
+            1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1),
+            new CustomizableThreadFactory("search-index-rebuild-"),
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    public BookSearchIndexSynchronizer(BookSearchIndex bookSearchIndex,
+                                       ChosungIndex chosungIndex,
+                                       TagBitmapIndex tagBitmapIndex,
+                                       SuggestIndex suggestIndex,
+                                       StringRedisTemplate redisTemplate,
+                                       ObjectMapper objectMapper) {
+        this.bookSearchIndex = bookSearchIndex;
+        this.chosungIndex = chosungIndex;
+        this.tagBitmapIndex = tagBitmapIndex;
+        this.suggestIndex = suggestIndex;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void bookAdded(Long id, String title, String author) {
+        apply(new BookSearchIndexEvent(BookSearchIndexEvent.Type.ADDED, id, title, author, null, null, null, nodeId));
+    }
+
+    public void bookUpdated(Long id, String oldTitle, String oldAuthor, String title, String author) {
+        apply(new BookSearchIndexEvent(BookSearchIndexEvent.Type.UPDATED, id, title, author, oldTitle, oldAuthor, null, nodeId));
+    }
+
+    public void bookDeleted(Long id, String title, String author, List<String> tags) {
+        apply(new BookSearchIndexEvent(BookSearchIndexEvent.Type.DELETED, id, title, author, null, null, tags, nodeId));
+    }
+
+    public void tagsAdded(Long id, List<String> tags) {
+        apply(new BookSearchIndexEvent(BookSearchIndexEvent.Type.TAGS_ADDED, id, null, null, null, null, tags, nodeId));
+    }
+
+    public void rebuildAll() {
+        apply(new BookSearchIndexEvent(BookSearchIndexEvent.Type.REBUILD, null, null, null, null, null, null, nodeId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        BookSearchIndexEvent event;
+        try {
+            event = objectMapper.readValue(message.getBody(), BookSearchIndexEvent.class);
+        } catch (IOException e) {
+            log.warn("잘못된 검색 색인 메시지 - {}", new String(message.getBody()), e);
+            return;
+        }
+
+        if (nodeId.equals(event.origin())) {
+            return;
+        }
+        applyLocal(event);
+    }
+
+    private void apply(BookSearchIndexEvent event) {
+        applyLocal(event);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("검색 색인 메시지 변환 오류", e);
+        }
+    }
+
+    private void applyLocal(BookSearchIndexEvent event) {
+        switch (event.type()) {
+            case ADDED -> {
+                bookSearchIndex.add(event.id(), event.title(), event.author());
+                chosungIndex.add(event.id(), event.title(), event.author());
+                suggestIndex.bookAdded(event.title(), event.author());
+            }
+            case UPDATED -> {
+                bookSearchIndex.update(event.id(), event.oldTitle(), event.oldAuthor(), event.title(), event.author());
+                chosungIndex.add(event.id(), event.title(), event.author());
+                suggestIndex.bookUpdated(event.oldTitle(), event.oldAuthor(), event.title(), event.author());
+            }
+            case DELETED -> {
+                bookSearchIndex.remove(event.id(), event.title(), event.author());
+                chosungIndex.remove(event.id());
+                tagBitmapIndex.removeBook(event.id(), event.tags());
+                suggestIndex.bookDeleted(event.title(), event.author(), event.tags());
+            }
+            case TAGS_ADDED -> {
+                tagBitmapIndex.addTags(event.id(), event.tags());
+                suggestIndex.tagsAdded(event.tags());
+            }
+            case REBUILD -> rebuildExecutor.execute(this::rebuildIndexes);
+        }
+    }
+
+    private void rebuildIndexes() {
+        long start = System.currentTimeMillis();
+        try {
+            bookSearchIndex.rebuild();
+            chosungIndex.rebuild();
+            tagBitmapIndex.rebuild();
+            suggestIndex.rebuild();
+            log.info("검색 색인 전체 재생성 - {}ms", System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("검색 색인 전체 재생성 실패", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        rebuildExecutor.shutdownNow();
+    }
+}
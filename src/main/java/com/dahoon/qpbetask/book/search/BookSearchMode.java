@@ -0,0 +1,13 @@
+package com.dahoon.qpbetask.book.search;
+
+// 제목/저자 검색 방식, JMeter 로 비교할 수 있도록 요청마다 선택 가능
+public enum BookSearchMode {
+    // 메모리 n-gram 색인으로 후보를 고르고 DB 에서 확인 (색인을 쓸 수 없으면 LIKE)
+    INDEX,
+    // LIKE '%검색어%' 전체 스캔
+    LIKE,
+    // MySQL FULLTEXT(ngram parser) 검색, 관련도 순 정렬 및 페이지 단위 조회
+    FULLTEXT,
+    // 메모리 초성 색인에서 초성으로 검색 ("ㅎㄱㄷ" -> "한강도서"), ID 순 (색인이 없으면 INDEX)
+    CHOSUNG
+}
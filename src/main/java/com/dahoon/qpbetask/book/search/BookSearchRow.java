@@ -0,0 +1,5 @@
+package com.dahoon.qpbetask.book.search;
+
+// 색인 생성용 조회 결과 (엔티티 대신 필요한 컬럼만 읽음)
+public record BookSearchRow(Long id, String title, String author) {
+}
@@ -0,0 +1,5 @@
+package com.dahoon.qpbetask.book.search;
+
+// 태그 색인 생성용 조회 결과 (book_tag 한 행)
+public record BookTagRow(Long id, Long bookId, String tagName) {
+}
@@ -0,0 +1,37 @@
+package com.dahoon.qpbetask.book.search;
+
+import java.util.Locale;
+
+// 한글 음절을 초성(호환용 자모 ㄱ ~ ㅎ)으로 바꾼 문자열
+// 공백은 빼고, 한글 음절이 아닌 문자는 소문자로 그대로 둠 ("한강 도서" -> "ㅎㄱㄷㅅ", "ㅎㄱ" -> "ㅎㄱ")
+final class Chosung {
+
+    private static final char FIRST_SYLLABLE = '가';
+    private static final char LAST_SYLLABLE = '힣';
+    // 초성 하나에 딸린 음절 수 (중성 21 x 종성 28)
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+    private static final char[] INITIALS = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private Chosung() {
+    }
+
+    static String of(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= FIRST_SYLLABLE && c <= LAST_SYLLABLE) {
+                result.append(INITIALS[(c - FIRST_SYLLABLE) / SYLLABLES_PER_INITIAL]);
+            } else if (!Character.isWhitespace(c)) {
+                result.append(c);
+            }
+        }
+        return result.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,226 @@
+package com.dahoon.qpbetask.book.search;
+
+import com.dahoon.qpbetask.book.repository.BookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 제목/저자 초성 검색용 메모리 색인 ("ㅎㄱㄷ" -> "한강도서")
+// 도서 등록/수정 시 초성 문자열로 바꿔 ID 순서로 저장하고, 검색은 커서 이후부터 순서대로 훑어 limit 개가 모이면 중단
+// 초성은 14 ~ 19 글자뿐이라 n-gram 역색인은 목록이 너무 길어 이득이 없어, 메모리가 적은 배열 스캔을 사용
+@Component
+@Slf4j
+public class ChosungIndex implements ApplicationRunner {
+
+    private static final int SCAN_BATCH_SIZE = 5_000;
+
+    static class Texts {
+        private int[] ids = new int[1024];
+        private String[] titles = new String[1024];
+        private String[] authors = new String[1024];
+        private int size;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        void put(int id, String title, String author) {
+            lock.writeLock().lock();
+            try {
+                int index = size > 0 && ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+                if (index < 0) {
+                    index = -index - 1;
+                    insertAt(index, id);
+                }
+                titles[index] = title;
+                authors[index] = author;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 삭제한 자리는 비워 두고 다음 재생성 때 정리
+        void remove(int id) {
+            lock.writeLock().lock();
+            try {
+                int index = Arrays.binarySearch(ids, 0, size, id);
+                if (index >= 0) {
+                    titles[index] = null;
+                    authors[index] = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Long> search(BookSearchIndex.Field field, String query, long lastId, int limit) {
+            lock.readLock().lock();
+            try {
+                String[] texts = field == BookSearchIndex.Field.TITLE ? titles : authors;
+                int from = lastId >= Integer.MAX_VALUE ? size : Arrays.binarySearch(ids, 0, size, (int) lastId + 1);
+                from = from >= 0 ? from : -from - 1;
+
+                List<Long> result = new ArrayList<>(limit);
+                for (int i = from; i < size && result.size() < limit; i++) {
+                    if (texts[i] != null && texts[i].contains(query)) {
+                        result.add((long) ids[i]);
+                    }
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // 배열과 문자열(UTF-16, 헤더 포함)의 대략적인 크기, 공유하는 문자열도 각각 셈
+        long estimatedBytes() {
+            lock.readLock().lock();
+            try {
+                long bytes = (long) ids.length * (Integer.BYTES + 2 * 4);
+                for (int i = 0; i < size; i++) {
+                    bytes += stringBytes(titles[i]) + stringBytes(authors[i]);
+                }
+                return bytes;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void insertAt(int index, int id) {
+            if (size == ids.length) {
+                int capacity = ids.length + (ids.length >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                titles = Arrays.copyOf(titles, capacity);
+                authors = Arrays.copyOf(authors, capacity);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            System.arraycopy(titles, index, titles, index + 1, size - index);
+            System.arraycopy(authors, index, authors, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        private static long stringBytes(String text) {
+            return text == null ? 0 : 24 + ((16 + 2L * text.length() + 7) & ~7);
+        }
+    }
+
+    private final BookRepository bookRepository;
+    private final boolean enabled;
+    // 겹친 재생성이 building 을 덮어쓰지 않도록 순서대로 실행
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 생성이 끝나기 전에는 null (초성 검색 대신 INDEX 방식 사용)
+    private volatile Texts current;
+    // 다시 만드는 중인 색인, 그동안의 변경도 함께 반영
+    private Texts building;
+
+    public ChosungIndex(BookRepository bookRepository,
+                        @Value("${book.search.chosung.enabled:true}") boolean enabled) {
+        this.bookRepository = bookRepository;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${book.search.chosung.rebuild-cron:0 30 5 * * *}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        rebuildLock.lock();
+        try {
+            build();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void build() {
+        long start = System.currentTimeMillis();
+        Texts next = new Texts();
+        synchronized (this) {
+            building = next;
+        }
+
+        // 같은 저자의 초성 문자열은 하나만 만들어 공유
+        Map<String, String> authors = new HashMap<>();
+        long lastId = 0;
+        int count = 0;
+        List<BookSearchRow> rows;
+        do {
+            rows = bookRepository.findSearchRowsAfter(lastId, PageRequest.of(0, SCAN_BATCH_SIZE));
+            for (BookSearchRow row : rows) {
+                next.put(Math.toIntExact(row.id()), Chosung.of(row.title()),
+                        authors.computeIfAbsent(Chosung.of(row.author()), key -> key));
+            }
+            count += rows.size();
+            if (!rows.isEmpty()) {
+                lastId = rows.get(rows.size() - 1).id();
+            }
+        } while (rows.size() == SCAN_BATCH_SIZE);
+
+        synchronized (this) {
+            current = next;
+            building = null;
+        }
+        log.info("초성 검색 색인 생성 - {}권, 약 {}KB, {}ms", count, next.estimatedBytes() / 1024,
+                System.currentTimeMillis() - start);
+    }
+
+    public boolean isAvailable() {
+        return current != null;
+    }
+
+    public synchronized void add(Long id, String title, String author) {
+        String titleChosung = Chosung.of(title);
+        String authorChosung = Chosung.of(author);
+        for (Texts texts : targets()) {
+            texts.put(Math.toIntExact(id), titleChosung, authorChosung);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        for (Texts texts : targets()) {
+            texts.remove(Math.toIntExact(id));
+        }
+    }
+
+    // lastId 이후 초성이 검색어를 포함하는 도서 ID 를 오름차순으로 최대 limit 개, 색인이 없으면 empty
+    // 검색어의 완성된 음절도 초성으로 바꿔 비교 ("한ㄱ" 은 "ㅎㄱ" 과 같음)
+    public Optional<List<Long>> search(BookSearchIndex.Field field, String keyword, long lastId, int limit) {
+        Texts texts = current;
+        if (texts == null) {
+            return Optional.empty();
+        }
+
+        String query = Chosung.of(keyword);
+        if (query.isEmpty()) {
+            return Optional.of(List.of());
+        }
+        return Optional.of(texts.search(field, query, lastId, limit));
+    }
+
+    private List<Texts> targets() {
+        if (building == null) {
+            return current == null ? List.of() : List.of(current);
+        }
+        return current == null ? List.of(building) : List.of(current, building);
+    }
+}
@@ -0,0 +1,93 @@
+package com.dahoon.qpbetask.book.search;
+
+import java.util.Arrays;
+
+// 정렬된 도서 ID 목록 (int 배열, 박싱 없음)
+// 새 도서는 ID 가 가장 크므로 대부분 끝에 추가됨
+class IntPostingList {
+
+    private int[] ids = new int[2];
+    private int size;
+
+    void add(int id) {
+        if (size > 0 && ids[size - 1] < id) {
+            append(id);
+            return;
+        }
+
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(int id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    // 정렬된 두 목록의 교집합, 한쪽이 훨씬 작으면 큰 쪽을 이진 탐색
+    int[] intersect(int[] sorted) {
+        int[] result = new int[Math.min(sorted.length, size)];
+        int count = 0;
+        if (sorted.length * 16 < size) {
+            for (int id : sorted) {
+                if (Arrays.binarySearch(ids, 0, size, id) >= 0) {
+                    result[count++] = id;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < sorted.length && j < size) {
+                if (sorted[i] < ids[j]) {
+                    i++;
+                } else if (sorted[i] > ids[j]) {
+                    j++;
+                } else {
+                    result[count++] = sorted[i];
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // 메모리 측정용 (배열 여유 공간 포함)
+    long capacityBytes() {
+        return (long) ids.length * Integer.BYTES;
+    }
+
+    private void append(int id) {
+        ensureCapacity();
+        ids[size++] = id;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.dahoon.qpbetask.book.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 문자열 필드 하나에 대한 bigram 역색인 : (앞 글자 << 16 | 뒷 글자) -> 도서 ID 목록
+// 검색어의 모든 bigram 을 포함하는 도서가 후보 (실제로 연속해서 포함하는지는 DB 에서 확인)
+// 한 글자 검색어는 결과가 너무 많아 색인하지 않음
+class NgramIndex {
+
+    private final Map<Integer, IntPostingList> postings = new HashMap<>();
+
+    void add(int id, String text) {
+        for (int bigram : bigrams(text)) {
+            postings.computeIfAbsent(bigram, key -> new IntPostingList()).add(id);
+        }
+    }
+
+    void remove(int id, String text) {
+        for (int bigram : bigrams(text)) {
+            IntPostingList list = postings.get(bigram);
+            if (list == null) {
+                continue;
+            }
+            list.remove(id);
+            if (list.isEmpty()) {
+                postings.remove(bigram);
+            }
+        }
+    }
+
+    // 검색할 수 없는 검색어(두 글자 미만)면 null
+    int[] search(String query) {
+        int[] queryBigrams = bigrams(query);
+        if (queryBigrams.length == 0) {
+            return null;
+        }
+
+        List<IntPostingList> lists = new ArrayList<>();
+        for (int bigram : queryBigrams) {
+            IntPostingList list = postings.get(bigram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+
+        // 가장 짧은 목록부터 교집합
+        lists.sort(Comparator.comparingInt(IntPostingList::size));
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = lists.get(i).intersect(result);
+        }
+        return result;
+    }
+
+    int keyCount() {
+        return postings.size();
+    }
+
+    long postingBytes() {
+        return postings.values().stream().mapToLong(IntPostingList::capacityBytes).sum();
+    }
+
+    // 중복 없는 bigram 목록, MySQL 기본 collation 처럼 대소문자는 구분하지 않음
+    static int[] bigrams(String text) {
+        if (text == null || text.length() < 2) {
+            return new int[0];
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int[] result = new int[normalized.length() - 1];
+        int count = 0;
+        for (int i = 0; i < normalized.length() - 1; i++) {
+            int bigram = normalized.charAt(i) << 16 | normalized.charAt(i + 1);
+            boolean duplicated = false;
+            for (int j = 0; j < count; j++) {
+                if (result[j] == bigram) {
+                    duplicated = true;
+                    break;
+                }
+            }
+            if (!duplicated) {
+                result[count++] = bigram;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,207 @@
+package com.dahoon.qpbetask.book.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 접두사 자동완성용 정렬 배열 : 정규화한 키 오름차순 + 가중치(도서 수)
+// 접두사 범위는 이진 탐색으로 찾고, 범위 안의 상위 N 개는 가중치 최댓값 세그먼트 트리로 범위 크기와 관계없이 꺼냄
+// 배열에 없는 새 키는 pending(TreeMap)에 모았다가 일정 개수를 넘으면 배열을 다시 만듦
+class PrefixIndex {
+
+    private static final int MAX_PENDING = 10_000;
+
+    static final class Term {
+        final String text;
+        int weight;
+
+        Term(String text, int weight) {
+            this.text = text;
+            this.weight = weight;
+        }
+    }
+
+    private String[] keys;
+    private String[] texts;
+    private int[] weights;
+    // 구간 내 가중치가 가장 큰 위치 (리프는 n + i), 같으면 앞쪽(키가 작은 쪽)
+    private int[] tree;
+    private final TreeMap<String, Term> pending = new TreeMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    PrefixIndex(Map<String, Term> terms) {
+        build(terms);
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // 같은 키의 도서 수를 delta 만큼 변경 (0 이하가 되면 제안하지 않음)
+    void add(String text, int delta) {
+        String key = normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                weights[index] = Math.max(0, weights[index] + delta);
+                update(index);
+                return;
+            }
+
+            Term term = pending.get(key);
+            if (term == null) {
+                if (delta > 0) {
+                    pending.put(key, new Term(text.strip(), delta));
+                }
+            } else {
+                term.weight += delta;
+                if (term.weight <= 0) {
+                    pending.remove(key);
+                }
+            }
+            if (pending.size() > MAX_PENDING) {
+                build(snapshot());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 접두사로 시작하는 키 중 가중치가 큰 순서로 최대 limit 개 (같으면 키 순서)
+    List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        String end = key + Character.MAX_VALUE;
+
+        lock.readLock().lock();
+        try {
+            List<Suggestion> result = new ArrayList<>(limit);
+            int from = lowerBound(key);
+            int to = lowerBound(end);
+
+            // 구간 최댓값을 꺼낸 뒤 그 위치를 기준으로 구간을 둘로 나눠 다시 후보로 넣음
+            PriorityQueue<int[]> ranges = new PriorityQueue<>(
+                    Comparator.<int[]>comparingInt(range -> -weights[range[2]]).thenComparingInt(range -> range[2]));
+            offer(ranges, from, to);
+            while (!ranges.isEmpty() && result.size() < limit) {
+                int[] range = ranges.poll();
+                int best = range[2];
+                if (weights[best] == 0) {
+                    break;
+                }
+                result.add(new Suggestion(texts[best], weights[best]));
+                offer(ranges, range[0], best);
+                offer(ranges, best + 1, range[1]);
+            }
+
+            // 배열에 아직 합쳐지지 않은 키와 섞어서 다시 상위 limit 개
+            Map<String, Term> recent = pending.subMap(key, end);
+            if (!recent.isEmpty()) {
+                recent.values().forEach(term -> result.add(new Suggestion(term.text, term.weight)));
+                result.sort(Comparator.comparingLong(Suggestion::count).reversed()
+                        .thenComparing(suggestion -> normalize(suggestion.text())));
+                return List.copyOf(result.subList(0, Math.min(limit, result.size())));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return keys.length + pending.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void build(Map<String, Term> terms) {
+        String[] sortedKeys = terms.keySet().toArray(new String[0]);
+        Arrays.sort(sortedKeys);
+
+        int n = sortedKeys.length;
+        keys = sortedKeys;
+        texts = new String[n];
+        weights = new int[n];
+        for (int i = 0; i < n; i++) {
+            Term term = terms.get(sortedKeys[i]);
+            // 원문이 정규화한 키와 같으면 같은 문자열을 공유
+            texts[i] = term.text.equals(sortedKeys[i]) ? sortedKeys[i] : term.text;
+            weights[i] = term.weight;
+        }
+
+        tree = new int[Math.max(2, 2 * n)];
+        for (int i = 0; i < n; i++) {
+            tree[n + i] = i;
+        }
+        for (int node = n - 1; node > 0; node--) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+        pending.clear();
+    }
+
+    private Map<String, Term> snapshot() {
+        Map<String, Term> terms = new TreeMap<>(pending);
+        for (int i = 0; i < keys.length; i++) {
+            if (weights[i] > 0) {
+                terms.put(keys[i], new Term(texts[i], weights[i]));
+            }
+        }
+        return terms;
+    }
+
+    private void update(int index) {
+        int n = keys.length;
+        for (int node = (n + index) / 2; node > 0; node /= 2) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    private void offer(PriorityQueue<int[]> ranges, int from, int to) {
+        if (from < to) {
+            ranges.add(new int[]{from, to, max(from, to)});
+        }
+    }
+
+    // [from, to) 구간에서 가중치가 가장 큰 위치
+    private int max(int from, int to) {
+        int n = keys.length;
+        int best = from;
+        for (int left = from + n, right = to + n; left < right; left /= 2, right /= 2) {
+            if ((left & 1) == 1) {
+                best = better(best, tree[left++]);
+            }
+            if ((right & 1) == 1) {
+                best = better(best, tree[--right]);
+            }
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (weights[a] != weights[b]) {
+            return weights[a] > weights[b] ? a : b;
+        }
+        return Math.min(a, b);
+    }
+
+    private int lowerBound(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? index : -index - 1;
+    }
+}
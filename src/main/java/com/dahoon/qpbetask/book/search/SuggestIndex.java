@@ -0,0 +1,150 @@
+package com.dahoon.qpbetask.book.search;
+
+import com.dahoon.qpbetask.book.repository.BookRepository;
+import com.dahoon.qpbetask.book.repository.BookTagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 제목/저자/태그 접두사 자동완성 색인, 같은 값을 가진 도서가 많을수록 먼저 제안
+// 기동 시 만들고 도서/태그 변경 커밋 이후 도서 수를 바로 반영 (다른 노드는 BookSearchIndexSynchronizer 로 반영)
+// 조회는 DB 를 거치지 않음, 도서 수는 정렬에만 쓰므로 재생성 중(스캔 구간)의 변경이 빠지더라도 다음 재생성 때 보정
+@Component
+@Slf4j
+public class SuggestIndex implements ApplicationRunner {
+
+    public enum Field {
+        TITLE, AUTHOR, TAG
+    }
+
+    private static final int SCAN_BATCH_SIZE = 5_000;
+
+    private final BookRepository bookRepository;
+    private final BookTagRepository bookTagRepository;
+    private final boolean enabled;
+    // 겹쳐 실행되면 먼저 시작한(더 오래된) 결과가 나중에 current 를 덮어쓸 수 있으므로 순서대로 실행
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 생성이 끝나기 전에는 null (빈 결과)
+    private volatile Map<Field, PrefixIndex> current;
+
+    public SuggestIndex(BookRepository bookRepository,
+                        BookTagRepository bookTagRepository,
+                        @Value("${book.suggest.enabled:true}") boolean enabled) {
+        this.bookRepository = bookRepository;
+        this.bookTagRepository = bookTagRepository;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${book.suggest.rebuild-cron:0 20 5 * * *}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        rebuildLock.lock();
+        try {
+            build();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void build() {
+        long start = System.currentTimeMillis();
+        Map<String, PrefixIndex.Term> titles = new HashMap<>();
+        Map<String, PrefixIndex.Term> authors = new HashMap<>();
+        Map<String, PrefixIndex.Term> tags = new HashMap<>();
+
+        long lastId = 0;
+        List<BookSearchRow> rows;
+        do {
+            rows = bookRepository.findSearchRowsAfter(lastId, PageRequest.of(0, SCAN_BATCH_SIZE));
+            for (BookSearchRow row : rows) {
+                count(titles, row.title());
+                count(authors, row.author());
+            }
+            if (!rows.isEmpty()) {
+                lastId = rows.get(rows.size() - 1).id();
+            }
+        } while (rows.size() == SCAN_BATCH_SIZE);
+
+        for (TagFacet facet : bookTagRepository.countAllByTag()) {
+            tags.put(PrefixIndex.normalize(facet.tag()), new PrefixIndex.Term(facet.tag(), Math.toIntExact(facet.count())));
+        }
+
+        Map<Field, PrefixIndex> built = new EnumMap<>(Field.class);
+        built.put(Field.TITLE, new PrefixIndex(titles));
+        built.put(Field.AUTHOR, new PrefixIndex(authors));
+        built.put(Field.TAG, new PrefixIndex(tags));
+
+        current = built;
+        log.info("자동완성 색인 생성 - 제목 {}개, 저자 {}개, 태그 {}개, {}ms", built.get(Field.TITLE).size(),
+                built.get(Field.AUTHOR).size(), built.get(Field.TAG).size(), System.currentTimeMillis() - start);
+    }
+
+    public void bookAdded(String title, String author) {
+        apply(Field.TITLE, title, 1);
+        apply(Field.AUTHOR, author, 1);
+    }
+
+    public void bookUpdated(String oldTitle, String oldAuthor, String title, String author) {
+        apply(Field.TITLE, oldTitle, -1);
+        apply(Field.AUTHOR, oldAuthor, -1);
+        apply(Field.TITLE, title, 1);
+        apply(Field.AUTHOR, author, 1);
+    }
+
+    public void bookDeleted(String title, String author, Collection<String> tags) {
+        apply(Field.TITLE, title, -1);
+        apply(Field.AUTHOR, author, -1);
+        tags.forEach(tag -> apply(Field.TAG, tag, -1));
+    }
+
+    public void tagsAdded(Collection<String> tags) {
+        tags.forEach(tag -> apply(Field.TAG, tag, 1));
+    }
+
+    // 색인이 아직 없으면 empty
+    public Optional<List<Suggestion>> suggest(Field field, String prefix, int limit) {
+        Map<Field, PrefixIndex> indexes = current;
+        if (indexes == null) {
+            return Optional.empty();
+        }
+        return Optional.of(indexes.get(field).suggest(prefix, limit));
+    }
+
+    private void apply(Field field, String text, int delta) {
+        Map<Field, PrefixIndex> indexes = current;
+        if (indexes != null) {
+            indexes.get(field).add(text, delta);
+        }
+    }
+
+    private static void count(Map<String, PrefixIndex.Term> terms, String text) {
+        String key = PrefixIndex.normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        terms.computeIfAbsent(key, k -> new PrefixIndex.Term(text.strip(), 0)).weight++;
+    }
+}
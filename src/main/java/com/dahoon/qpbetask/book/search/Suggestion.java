@@ -0,0 +1,5 @@
+package com.dahoon.qpbetask.book.search;
+
+// 자동완성 결과, count 는 해당 제목/저자/태그를 가진 도서 수
+public record Suggestion(String text, long count) {
+}
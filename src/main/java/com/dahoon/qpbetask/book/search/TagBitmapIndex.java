@@ -0,0 +1,269 @@
+package com.dahoon.qpbetask.book.search;
+
+import com.dahoon.qpbetask.book.repository.BookTagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 태그 이름 -> 도서 ID 압축 비트맵 (RoaringBitmap)
+// 태그 이름은 DB(utf8_general_ci)와 같이 대소문자를 구분하지 않으므로 normalize 한 이름을 키로 사용
+// 여러 태그 필터링을 GROUP BY 집계 대신 비트맵 교집합으로 계산
+// 기동 시 book_tag 를 ID 순서로 나눠 읽어 만들고, 태그 추가/도서 삭제 커밋 이후 바로 반영 (다른 노드는 BookSearchIndexSynchronizer 로 반영)
+@Component
+@Slf4j
+public class TagBitmapIndex implements ApplicationRunner {
+
+    private static final int SCAN_BATCH_SIZE = 10_000;
+
+    private static class Bitmaps {
+        private final Map<String, RoaringBitmap> byTag = new HashMap<>();
+        // 정규화한 키 -> 처음 들어온 태그 이름 (집계 결과 표시용)
+        private final Map<String, String> names = new HashMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        void add(List<BookTagRow> rows) {
+            lock.writeLock().lock();
+            try {
+                for (BookTagRow row : rows) {
+                    String key = normalize(row.tagName());
+                    names.putIfAbsent(key, row.tagName());
+                    byTag.computeIfAbsent(key, tag -> new RoaringBitmap()).add(Math.toIntExact(row.bookId()));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(int bookId, Collection<String> tags) {
+            lock.writeLock().lock();
+            try {
+                for (String tag : tags) {
+                    RoaringBitmap bitmap = byTag.get(tag);
+                    if (bitmap == null) {
+                        continue;
+                    }
+                    bitmap.remove(bookId);
+                    if (bitmap.isEmpty()) {
+                        byTag.remove(tag);
+                        names.remove(tag);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 도서가 적은 태그부터 교집합, 없는 태그가 있으면 빈 결과
+        RoaringBitmap and(Collection<String> tags) {
+            lock.readLock().lock();
+            try {
+                List<RoaringBitmap> bitmaps = new ArrayList<>();
+                for (String tag : tags) {
+                    RoaringBitmap bitmap = byTag.get(tag);
+                    if (bitmap == null) {
+                        return new RoaringBitmap();
+                    }
+                    bitmaps.add(bitmap);
+                }
+                bitmaps.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+
+                if (bitmaps.size() == 1) {
+                    return bitmaps.get(0).clone();
+                }
+                // 첫 교집합에서 새 비트맵을 만들고 나머지는 그 위에서 교집합 (복사 없이 결과가 빠르게 작아짐)
+                RoaringBitmap result = RoaringBitmap.and(bitmaps.get(0), bitmaps.get(1));
+                for (int i = 2; i < bitmaps.size() && !result.isEmpty(); i++) {
+                    result.and(bitmaps.get(i));
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // 필터 결과(없으면 전체 도서)와 각 태그 비트맵의 교집합 크기, 필터에 쓴 태그와 0건인 태그는 제외
+        List<TagFacet> facets(Collection<String> tags) {
+            lock.readLock().lock();
+            try {
+                RoaringBitmap filter = tags.isEmpty() ? null : and(tags);
+                if (filter != null && filter.isEmpty()) {
+                    return List.of();
+                }
+
+                List<TagFacet> facets = new ArrayList<>();
+                for (Map.Entry<String, RoaringBitmap> entry : byTag.entrySet()) {
+                    if (tags.contains(entry.getKey())) {
+                        continue;
+                    }
+                    long count = filter == null
+                            ? entry.getValue().getLongCardinality()
+                            : RoaringBitmap.andCardinality(filter, entry.getValue());
+                    if (count > 0) {
+                        facets.add(new TagFacet(names.get(entry.getKey()), count));
+                    }
+                }
+                return facets;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void optimize() {
+            lock.writeLock().lock();
+            try {
+                byTag.values().forEach(RoaringBitmap::runOptimize);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private final BookTagRepository bookTagRepository;
+    private final boolean enabled;
+    // 겹친 재생성이 building 을 덮어쓰지 않도록 순서대로 실행
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 생성이 끝나기 전에는 null (DB 집계 사용)
+    private volatile Bitmaps current;
+    // 다시 만드는 중인 색인, 그동안의 변경도 함께 반영
+    private Bitmaps building;
+
+    public TagBitmapIndex(BookTagRepository bookTagRepository,
+                          @Value("${book.tag.index.enabled:true}") boolean enabled) {
+        this.bookTagRepository = bookTagRepository;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // SQL 로 직접 넣은 데이터나 유실된 변경 메시지를 반영하기 위해 트래픽이 적은 시간에 다시 만듦
+    @Scheduled(cron = "${book.tag.index.rebuild-cron:0 10 5 * * *}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        rebuildLock.lock();
+        try {
+            build();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void build() {
+        long start = System.currentTimeMillis();
+        Bitmaps next = new Bitmaps();
+        synchronized (this) {
+            building = next;
+        }
+
+        long lastId = 0;
+        int count = 0;
+        List<BookTagRow> rows;
+        do {
+            rows = bookTagRepository.findTagRowsAfter(lastId, PageRequest.of(0, SCAN_BATCH_SIZE));
+            next.add(rows);
+            count += rows.size();
+            if (!rows.isEmpty()) {
+                lastId = rows.get(rows.size() - 1).id();
+            }
+        } while (rows.size() == SCAN_BATCH_SIZE);
+        next.optimize();
+
+        synchronized (this) {
+            current = next;
+            building = null;
+        }
+        log.info("태그 비트맵 색인 생성 - 태그 {}개, 도서-태그 {}건, {}ms", next.byTag.size(), count,
+                System.currentTimeMillis() - start);
+    }
+
+    public synchronized void addTags(Long bookId, Collection<String> tags) {
+        List<BookTagRow> rows = tags.stream()
+                .map(tag -> new BookTagRow(null, bookId, tag))
+                .toList();
+        for (Bitmaps bitmaps : targets()) {
+            bitmaps.add(rows);
+        }
+    }
+
+    public synchronized void removeBook(Long bookId, Collection<String> tags) {
+        for (Bitmaps bitmaps : targets()) {
+            bitmaps.remove(Math.toIntExact(bookId), normalize(tags));
+        }
+    }
+
+    // 모든 태그를 가진 도서 ID (대소문자 구분 없음), 색인이 아직 없으면 empty
+    public Optional<RoaringBitmap> match(Collection<String> tags) {
+        Bitmaps bitmaps = current;
+        if (bitmaps == null || tags.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(bitmaps.and(normalize(tags)));
+    }
+
+    // 필터 조건의 도서들이 가진 다른 태그별 도서 수 (정렬 전), 색인이 아직 없으면 empty
+    public Optional<List<TagFacet>> facets(Collection<String> tags) {
+        Bitmaps bitmaps = current;
+        if (bitmaps == null) {
+            return Optional.empty();
+        }
+        return Optional.of(bitmaps.facets(normalize(tags)));
+    }
+
+    static String normalize(String tag) {
+        return tag.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> normalize(Collection<String> tags) {
+        Set<String> keys = new LinkedHashSet<>();
+        tags.forEach(tag -> keys.add(normalize(tag)));
+        return keys;
+    }
+
+    // lastId 보다 큰 ID 를 오름차순으로 최대 limit 개
+    public static List<Long> page(RoaringBitmap bitmap, long lastId, int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        if (lastId >= Integer.MAX_VALUE) {
+            return ids;
+        }
+        PeekableIntIterator iterator = bitmap.getIntIterator();
+        iterator.advanceIfNeeded((int) lastId + 1);
+        while (iterator.hasNext() && ids.size() < limit) {
+            ids.add((long) iterator.next());
+        }
+        return ids;
+    }
+
+    private List<Bitmaps> targets() {
+        if (building == null) {
+            return current == null ? List.of() : List.of(current);
+        }
+        return current == null ? List.of(building) : List.of(current, building);
+    }
+}
@@ -0,0 +1,5 @@
+package com.dahoon.qpbetask.book.search;
+
+// 현재 태그 필터 결과 중 해당 태그를 가진 도서 수
+public record TagFacet(String tag, long count) {
+}
@@ -0,0 +1,96 @@
+package com.dahoon.qpbetask.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 캐시 키 조회 횟수를 캐시별 Top-K 스케치로 모아 주기적으로 Redis Sorted Set(cache:hits:{캐시이름}) 에 누적
+// 배포 후 워밍업할 키를 고르거나 관리자 API 에서 핫 키를 확인하는 데 사용
+// 검색어처럼 키 종류가 많아도 스케치 크기가 고정이라 메모리가 늘어나지 않음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheAccessRecorder {
+
+    private static final String KEY_PREFIX = "cache:hits:";
+    // 스케치 크기 : 캐시, 스트라이프마다 4 * 4096 개 카운터(128KB) + 상위 100개 키
+    private static final int SKETCH_WIDTH = 4_096;
+    private static final int TOP_K = 100;
+    private static final int MAX_KEYS_IN_REDIS = 1_000;
+    private static final Duration HITS_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate redisTemplate;
+    // 현재 집계 중인 구간의 스케치와 직전 구간의 상위 키
+    private final ConcurrentMap<String, StripedTopKSketch> currentWindows = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<HotKey>> lastWindows = new ConcurrentHashMap<>();
+
+    public void record(String cacheName, String key) {
+        currentWindows.computeIfAbsent(cacheName, name -> new StripedTopKSketch(SKETCH_WIDTH, TOP_K)).add(key);
+    }
+
+    // 직전 집계 구간(flush 주기)의 상위 키
+    public List<HotKey> hotKeys(String cacheName) {
+        return lastWindows.getOrDefault(cacheName, List.of());
+    }
+
+    public List<String> topKeys(String cacheName, int limit) {
+        Set<String> keys = redisTemplate.opsForZSet().reverseRange(KEY_PREFIX + cacheName, 0, limit - 1);
+        return keys == null ? List.of() : new ArrayList<>(keys);
+    }
+
+    // Redis 에 누적된 상위 키와 횟수
+    public List<HotKey> topKeyCounts(String cacheName, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(KEY_PREFIX + cacheName, 0, limit - 1);
+        if (tuples == null) {
+            return List.of();
+        }
+
+        List<HotKey> result = new ArrayList<>();
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            result.add(new HotKey(tuple.getValue(), tuple.getScore() == null ? 0 : tuple.getScore().longValue()));
+        }
+        return result;
+    }
+
+    // 구간마다 새 스케치로 바꾸고, 끝난 구간의 스트라이프를 합친 상위 키만 Redis 에 더함
+    @Scheduled(fixedDelay = 10_000)
+    public void flush() {
+        for (String cacheName : currentWindows.keySet()) {
+            StripedTopKSketch sketch = currentWindows.remove(cacheName);
+            if (sketch == null) {
+                continue;
+            }
+
+            List<HotKey> hotKeys = sketch.topK();
+            lastWindows.put(cacheName, hotKeys);
+            if (hotKeys.isEmpty()) {
+                continue;
+            }
+
+            String redisKey = KEY_PREFIX + cacheName;
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (HotKey hotKey : hotKeys) {
+                    stringConnection.zIncrBy(redisKey, hotKey.count(), hotKey.key());
+                }
+                stringConnection.zRemRange(redisKey, 0, -(MAX_KEYS_IN_REDIS + 1));
+                stringConnection.expire(redisKey, HITS_TTL.toSeconds());
+                return null;
+            });
+            log.info("캐시 조회 통계 저장 - {} : 상위 {}개 키", cacheName, hotKeys.size());
+        }
+    }
+}
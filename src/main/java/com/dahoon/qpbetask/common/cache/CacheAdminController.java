@@ -0,0 +1,63 @@
+package com.dahoon.qpbetask.common.cache;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/admin/cache")
+@Tag(name = "Cache Admin")
+public class CacheAdminController {
+
+    private static final int MAX_TOP_KEYS = 1_000;
+
+    private final TwoLevelCacheManager cacheManager;
+    private final CacheAccessRecorder cacheAccessRecorder;
+
+    @GetMapping("/stats")
+    @Operation(summary = "캐시 통계 조회", description = "이 노드의 캐시별 L1/Redis 히트, 미스, 로딩 시간과 직전 집계 구간의 핫 키를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<List<CacheStats>> showStats() {
+        log.info("캐시 통계 조회 컨트롤러");
+
+        return ResponseEntity.ok(cacheManager.stats());
+    }
+
+    @GetMapping("/{cacheName}/top-keys")
+    @Operation(summary = "누적 핫 키 조회", description = "모든 노드에서 Redis 에 누적된 캐시 키별 조회 횟수 상위 목록을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공, 기록이 없다면 빈 리스트 반환", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "조회 개수 초과")
+    })
+    public ResponseEntity<List<HotKey>> showTopKeys(
+            @Parameter(description = "캐시 이름", example = "book", in = ParameterIn.PATH)
+            @PathVariable(value = "cacheName") String cacheName,
+
+            @Parameter(description = "조회 개수 (최대 1000)", example = "100", in = ParameterIn.QUERY)
+            @RequestParam(name = "limit", required = false, defaultValue = "100") int limit) {
+        log.info("누적 핫 키 조회 컨트롤러 - 캐시 : {}, 개수 : {}", cacheName, limit);
+        if (limit < 1 || limit > MAX_TOP_KEYS) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_TOP_KEYS + " 이하입니다.");
+        }
+
+        return ResponseEntity.ok(cacheAccessRecorder.topKeyCounts(cacheName, limit));
+    }
+}
@@ -0,0 +1,91 @@
+package com.dahoon.qpbetask.common.cache;
+
+import com.dahoon.qpbetask.common.datasource.ReplicationRoutingDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+// 캐시 키에 세대(generation) 번호를 붙여 allEntries 삭제 대신 INCR 한 번으로 무효화
+// 이전 세대의 키는 더 이상 조회되지 않고 TTL 로 만료됨
+// 세대가 바뀐 직후에는 레플리카에 아직 변경이 복제되지 않았을 수 있으므로,
+// 이 노드가 새 세대를 처음 본 뒤 primary-read-window-ms 동안은 그 세대로 캐싱할 조회를 프라이머리에서 함
+// (복제 지연이 이 시간보다 길면 이전 데이터가 새 세대로 캐싱될 수 있고, 다음 세대 증가나 TTL 만료까지 남음)
+@Component("cacheGenerations")
+@Slf4j
+public class CacheGenerations {
+
+    private static final String KEY_PREFIX = "cache:generation:";
+    // pub/sub 메시지가 유실되더라도 이 주기마다 Redis 의 세대 번호를 다시 읽음
+    private static final long RELOAD_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    // changedAt : 이 노드에서 세대 번호가 커진 것을 본 시각
+    private record Generation(long value, long loadedAt, long changedAt) {
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final long primaryReadWindowNanos;
+    private final ConcurrentMap<String, Generation> generations = new ConcurrentHashMap<>();
+
+    public CacheGenerations(StringRedisTemplate redisTemplate,
+                            CacheInvalidationPublisher cacheInvalidationPublisher,
+                            @Value("${cache.generation.primary-read-window-ms:3000}") long primaryReadWindowMillis) {
+        this.redisTemplate = redisTemplate;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.primaryReadWindowNanos = TimeUnit.MILLISECONDS.toNanos(primaryReadWindowMillis);
+    }
+
+    // 세대 번호가 바뀐 직후면 현재 요청의 조회를 프라이머리로 보냄 (캐시 키를 만들 때 호출되므로 로딩 전에 적용됨)
+    public long current(String cacheName) {
+        Generation generation = generations.get(cacheName);
+        if (generation == null || System.nanoTime() - generation.loadedAt() > RELOAD_INTERVAL_NANOS) {
+            generation = load(cacheName);
+        }
+        if (System.nanoTime() - generation.changedAt() < primaryReadWindowNanos) {
+            ReplicationRoutingDataSource.usePrimaryForCurrentRequest();
+        }
+        return generation.value();
+    }
+
+    // 트랜잭션 커밋 이후에 호출해야 이전 데이터가 새 세대로 캐싱되지 않음
+    public long bump(String cacheName) {
+        Long value = redisTemplate.opsForValue().increment(KEY_PREFIX + cacheName);
+        update(cacheName, value, true);
+        log.info("캐시 세대 증가 - {} : {}", cacheName, value);
+
+        cacheInvalidationPublisher.publishClear(cacheName);
+        return value;
+    }
+
+    public boolean isTracked(String cacheName) {
+        return generations.containsKey(cacheName);
+    }
+
+    public void refresh(String cacheName) {
+        load(cacheName);
+    }
+
+    private Generation load(String cacheName) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + cacheName);
+        return update(cacheName, value == null ? 0L : Long.parseLong(value), false);
+    }
+
+    // GET 과 INCR 이 동시에 진행되면 먼저 읽은 이전 번호가 나중에 저장될 수 있으므로 세대 번호는 줄어들지 않게 함
+    // 읽은 시각은 항상 갱신해서 같은 번호면 다음 주기까지 다시 읽지 않음
+    // 처음 읽은 번호는 언제 바뀌었는지 모르므로 이 노드에서 올린 경우가 아니면 바뀐 직후로 보지 않음
+    private Generation update(String cacheName, long value, boolean bumped) {
+        long now = System.nanoTime();
+        long changedAt = bumped ? now : now - primaryReadWindowNanos;
+        return generations.merge(cacheName, new Generation(value, now, changedAt), (old, loaded) -> {
+            if (loaded.value() > old.value()) {
+                return new Generation(loaded.value(), now, now);
+            }
+            return new Generation(old.value(), now, old.changedAt());
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.dahoon.qpbetask.common.cache;
+
+// 캐시 무효화 pub/sub 메시지
+// allEntries 가 true 면 key 는 무시하고 캐시 전체를 비움, origin 은 발행한 노드 ID
+public record CacheInvalidationMessage(String cacheName, String key, boolean allEntries, String origin) {
+
+    public static CacheInvalidationMessage evict(String cacheName, Object key, String origin) {
+        return new CacheInvalidationMessage(cacheName, String.valueOf(key), false, origin);
+    }
+
+    public static CacheInvalidationMessage clear(String cacheName, String origin) {
+        return new CacheInvalidationMessage(cacheName, null, true, origin);
+    }
+}
@@ -1,16 +1,42 @@
 package com.dahoon.qpbetask.common.cache;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class CacheInvalidationPublisher {
 
+    public static final String CHANNEL = "cacheInvalidationChannel";
+
     private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 자기 자신이 보낸 메시지를 구분하기 위한 노드 ID
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public void publishEviction(String cacheName, Object key) {
+        publish(CacheInvalidationMessage.evict(cacheName, key, nodeId));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(CacheInvalidationMessage.clear(cacheName, nodeId));
+    }
 
-    public void publishInvalidationMessage(String cacheKey) {
-        redisTemplate.convertAndSend("cacheInvalidationChannel", cacheKey);
+    private void publish(CacheInvalidationMessage message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("캐시 무효화 메시지 변환 오류", e);
+        }
     }
 }
@@ -1,27 +1,56 @@
 package com.dahoon.qpbetask.common.cache;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.CacheManager;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+
 @Component
 @Slf4j
 public class CacheInvalidationSubscriber implements MessageListener {
 
-    private final CacheManager cacheManager;
+    private final TwoLevelCacheManager cacheManager;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final CacheGenerations cacheGenerations;
+    private final ObjectMapper objectMapper;
 
-    public CacheInvalidationSubscriber(CacheManager cacheManager) {
+    public CacheInvalidationSubscriber(TwoLevelCacheManager cacheManager,
+                                       CacheInvalidationPublisher cacheInvalidationPublisher,
+                                       CacheGenerations cacheGenerations,
+                                       ObjectMapper objectMapper) {
         this.cacheManager = cacheManager;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.cacheGenerations = cacheGenerations;
+        this.objectMapper = objectMapper;
     }
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
-        String cacheKey = new String(message.getBody());
-        log.info("Received cache invalidation message for: " + cacheKey);
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (IOException e) {
+            log.warn("잘못된 캐시 무효화 메시지 - {}", new String(message.getBody()), e);
+            return;
+        }
+
+        // 변경한 노드는 @CacheEvict 로 L1, Redis 모두 무효화했으므로 건너뜀
+        if (cacheInvalidationPublisher.getNodeId().equals(invalidation.origin())) {
+            return;
+        }
+        log.info("Received cache invalidation message for: {}", invalidation);
 
-        // books 캐시에서 해당 키를 삭제
-        cacheManager.getCache("books").evict(cacheKey);
+        // Redis 는 이미 무효화되었으므로 이 노드의 L1 만 비움
+        // 세대 번호를 쓰는 캐시는 L1 을 비우지 않고 새 세대 번호만 읽어옴 (이전 세대 L1 항목은 TTL 로 만료)
+        if (invalidation.allEntries() && cacheGenerations.isTracked(invalidation.cacheName())) {
+            cacheGenerations.refresh(invalidation.cacheName());
+        } else if (invalidation.allEntries()) {
+            cacheManager.clearLocal(invalidation.cacheName());
+        } else {
+            cacheManager.evictLocal(invalidation.cacheName(), invalidation.key());
+        }
     }
-}
\ No newline at end of file
+}
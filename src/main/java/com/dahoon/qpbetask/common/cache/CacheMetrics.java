@@ -0,0 +1,57 @@
+package com.dahoon.qpbetask.common.cache;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// TwoLevelCache 의 L1/L2 히트, 미스, 로딩 시간 카운터
+class CacheMetrics {
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    void localHit() {
+        localHits.increment();
+    }
+
+    void redisHit() {
+        redisHits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    void loaded(long nanos) {
+        loads.increment();
+        loadNanos.add(nanos);
+    }
+
+    void loadFailed(long nanos) {
+        loadFailures.increment();
+        loadNanos.add(nanos);
+    }
+
+    CacheStats snapshot(String cacheName, long localSize, List<HotKey> hotKeys) {
+        long local = localHits.sum();
+        long redis = redisHits.sum();
+        long miss = misses.sum();
+        long requests = local + redis + miss;
+        long loadCount = loads.sum() + loadFailures.sum();
+
+        return new CacheStats(cacheName,
+                local,
+                redis,
+                miss,
+                requests == 0 ? 0 : (double) (local + redis) / requests,
+                loads.sum(),
+                loadFailures.sum(),
+                loadCount == 0 ? 0 : (double) loadNanos.sum() / loadCount / TimeUnit.MILLISECONDS.toNanos(1),
+                localSize,
+                hotKeys);
+    }
+}
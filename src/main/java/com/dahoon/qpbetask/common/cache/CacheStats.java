@@ -0,0 +1,16 @@
+package com.dahoon.qpbetask.common.cache;
+
+import java.util.List;
+
+// 관리자 API 응답용 캐시별 통계 (노드 기동 이후 누적, hotKeys 는 직전 집계 구간)
+public record CacheStats(String cacheName,
+                         long localHits,
+                         long redisHits,
+                         long misses,
+                         double hitRatio,
+                         long loads,
+                         long loadFailures,
+                         double averageLoadMillis,
+                         long localSize,
+                         List<HotKey> hotKeys) {
+}
@@ -0,0 +1,4 @@
+package com.dahoon.qpbetask.common.cache;
+
+public record HotKey(String key, long count) {
+}
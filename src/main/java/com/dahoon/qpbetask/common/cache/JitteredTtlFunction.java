@@ -0,0 +1,22 @@
+package com.dahoon.qpbetask.common.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+
+// 같은 시각에 저장된 키들이 한꺼번에 만료되지 않도록 키마다 TTL 을 +-ratio 범위에서 분산
+// 키 해시로 정하므로 같은 키는 항상 같은 TTL (L1 에서 만료 시각을 다시 계산할 수 있음)
+public record JitteredTtlFunction(Duration ttl, double jitterRatio) implements RedisCacheWriter.TtlFunction {
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        long baseMillis = ttl.toMillis();
+        long range = (long) (baseMillis * jitterRatio);
+        if (range == 0) {
+            return ttl;
+        }
+
+        long offset = Math.floorMod((long) String.valueOf(key).hashCode() * 0x9E3779B9L, 2 * range + 1) - range;
+        return Duration.ofMillis(baseMillis + offset);
+    }
+}
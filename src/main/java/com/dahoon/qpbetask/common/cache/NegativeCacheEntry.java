@@ -0,0 +1,6 @@
+package com.dahoon.qpbetask.common.cache;
+
+// 조회 대상이 없다는 결과(EntityNotFoundException)를 캐싱하기 위한 값
+// 캐시에서 꺼내면 같은 메시지로 EntityNotFoundException 을 다시 던짐
+public record NegativeCacheEntry(String message) {
+}
@@ -0,0 +1,18 @@
+package com.dahoon.qpbetask.common.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+
+// 없는 ID 조회 결과는 짧은 TTL 로 저장하고, 나머지 값은 기존 TTL 규칙을 그대로 사용
+public record NegativeCachingTtlFunction(RedisCacheWriter.TtlFunction delegate, Duration negativeTtl)
+        implements RedisCacheWriter.TtlFunction {
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        if (value instanceof NegativeCacheEntry) {
+            return negativeTtl;
+        }
+        return delegate.getTimeToLive(key, value);
+    }
+}
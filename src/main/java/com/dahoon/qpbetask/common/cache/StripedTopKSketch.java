@@ -0,0 +1,59 @@
+package com.dahoon.qpbetask.common.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 캐시 조회마다 기록하므로 스케치 하나를 모든 스레드가 같은 락으로 쓰지 않도록 스레드별 스트라이프로 나눠 담음
+// 스트라이프 수는 CPU 수 기준(최대 16)이라 스레드가 많아도 메모리는 고정, 상위 키는 flush 때 합쳐서 구함
+class StripedTopKSketch {
+
+    private static final int MAX_STRIPES = 16;
+
+    private final AtomicReferenceArray<TopKSketch> stripes;
+    private final int stripeMask;
+    private final int width;
+    private final int k;
+
+    StripedTopKSketch(int width, int k) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, processors - 1)) << 1);
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+        this.stripeMask = stripeCount - 1;
+        this.width = width;
+        this.k = k;
+    }
+
+    void add(String key) {
+        int index = stripe();
+        TopKSketch sketch = stripes.get(index);
+        // 조회가 적은 캐시는 실제로 쓰인 스트라이프만 만듦
+        if (sketch == null) {
+            stripes.compareAndSet(index, null, new TopKSketch(width, k));
+            sketch = stripes.get(index);
+        }
+        sketch.add(key);
+    }
+
+    // 횟수 내림차순
+    List<HotKey> topK() {
+        List<TopKSketch> sketches = new ArrayList<>();
+        for (int i = 0; i < stripes.length(); i++) {
+            TopKSketch sketch = stripes.get(i);
+            if (sketch != null) {
+                sketches.add(sketch);
+            }
+        }
+        return TopKSketch.merge(sketches, k);
+    }
+
+    // 같은 스레드는 항상 같은 스트라이프를 쓰도록 스레드 ID 로 고름
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32));
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash & stripeMask;
+    }
+}
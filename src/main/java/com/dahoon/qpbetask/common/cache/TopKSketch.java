@@ -0,0 +1,128 @@
+package com.dahoon.qpbetask.common.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Count-Min Sketch + 최소 힙으로 스트림에서 자주 나오는 키 상위 K 개를 추정
+// 키 종류가 아무리 많아도 메모리는 depth * width 개 카운터와 K 개 항목으로 고정 (추정값은 실제보다 크거나 같음)
+class TopKSketch {
+
+    private static final int DEPTH = 4;
+
+    private final int widthMask;
+    private final long[][] counters;
+    private final int k;
+    // 상위 K 개 키의 추정 횟수, 힙에는 갱신 전 값이 남아 있을 수 있어 꺼낼 때 이 값과 비교
+    private final Map<String, Long> top = new HashMap<>();
+    private final PriorityQueue<HotKey> heap = new PriorityQueue<>(Comparator.comparingLong(HotKey::count));
+
+    TopKSketch(int width, int k) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width 는 2의 거듭제곱이어야 합니다.");
+        }
+        this.widthMask = width - 1;
+        this.counters = new long[DEPTH][width];
+        this.k = k;
+    }
+
+    synchronized void add(String key) {
+        long estimate = increment(key);
+
+        if (top.containsKey(key) || top.size() < k) {
+            top.put(key, estimate);
+            heap.add(new HotKey(key, estimate));
+        } else if (estimate > minTopCount()) {
+            top.remove(heap.poll().key());
+            top.put(key, estimate);
+            heap.add(new HotKey(key, estimate));
+        }
+
+        // 갱신 전 값이 너무 쌓이면 현재 값으로 다시 만듦
+        if (heap.size() > k * 4) {
+            heap.clear();
+            top.forEach((topKey, count) -> heap.add(new HotKey(topKey, count)));
+        }
+    }
+
+    // 횟수 내림차순
+    synchronized List<HotKey> topK() {
+        List<HotKey> result = new ArrayList<>();
+        top.forEach((key, count) -> result.add(new HotKey(key, count)));
+        result.sort(Comparator.comparingLong(HotKey::count).reversed());
+        return result;
+    }
+
+    // 같은 크기의 스케치들을 합쳐 상위 K 개를 구함
+    // 카운터는 모두 더하고, 각 스케치의 상위 키를 후보로 합친 카운터에서 다시 추정
+    static List<HotKey> merge(List<TopKSketch> sketches, int k) {
+        if (sketches.isEmpty()) {
+            return List.of();
+        }
+        int width = sketches.get(0).widthMask + 1;
+        long[][] merged = new long[DEPTH][width];
+        Set<String> candidates = new HashSet<>();
+        for (TopKSketch sketch : sketches) {
+            synchronized (sketch) {
+                for (int row = 0; row < DEPTH; row++) {
+                    for (int index = 0; index < width; index++) {
+                        merged[row][index] += sketch.counters[row][index];
+                    }
+                }
+                candidates.addAll(sketch.top.keySet());
+            }
+        }
+
+        int widthMask = width - 1;
+        List<HotKey> result = new ArrayList<>();
+        for (String key : candidates) {
+            int h1 = mix(key.hashCode());
+            int h2 = mix(h1) | 1;
+            long estimate = Long.MAX_VALUE;
+            for (int row = 0; row < DEPTH; row++) {
+                estimate = Math.min(estimate, merged[row][(h1 + row * h2) & widthMask]);
+            }
+            result.add(new HotKey(key, estimate));
+        }
+        result.sort(Comparator.comparingLong(HotKey::count).reversed());
+        return result.size() > k ? new ArrayList<>(result.subList(0, k)) : result;
+    }
+
+    // 모든 행의 카운터를 올리고 그중 최소값을 추정값으로 사용
+    private long increment(String key) {
+        int h1 = mix(key.hashCode());
+        int h2 = mix(h1) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = (h1 + row * h2) & widthMask;
+            estimate = Math.min(estimate, ++counters[row][index]);
+        }
+        return estimate;
+    }
+
+    // 힙 맨 위의 갱신 전 값은 버리고 실제 최소값을 찾음
+    private long minTopCount() {
+        while (true) {
+            HotKey min = heap.peek();
+            Long current = top.get(min.key());
+            if (current != null && current == min.count()) {
+                return min.count();
+            }
+            heap.poll();
+        }
+    }
+
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
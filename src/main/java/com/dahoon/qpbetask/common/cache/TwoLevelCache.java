@@ -0,0 +1,389 @@
+package com.dahoon.qpbetask.common.cache;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// L1(JVM 내부 Caffeine) + L2(Redis) 2단계 캐시
+// 조회는 L1 -> L2 순서, 저장/삭제는 L2 와 L1 모두 반영
+// @Cacheable(sync = true) 조회는 키마다 한 요청만 DB 를 조회하고(single-flight), 만료가 가까운 키는 미리 갱신
+// negativeCaching 이 켜진 캐시는 로딩 중 EntityNotFoundException 이 나면 그 결과도 저장해서 없는 ID 조회가 DB 로 가지 않도록 함
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    // XFetch(확률적 조기 갱신) 계수, 클수록 더 일찍 갱신
+    private static final double REFRESH_AHEAD_BETA = 1.0;
+    // Redis 에서 가져온 값은 재계산 시간을 모르므로 최소값으로 사용
+    private static final long MIN_RECOMPUTE_MILLIS = 1_000;
+
+    // expiresAt 은 Redis 항목의 만료 시각(epoch ms), 모르면 0
+    record LocalEntry(Object value, long recomputeMillis, long expiresAt) {
+    }
+
+    private final RedisCache redisCache;
+    private final com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> localCache;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final Executor refreshExecutor;
+    private final CacheAccessRecorder cacheAccessRecorder;
+    private final boolean negativeCaching;
+    private final CacheMetrics metrics = new CacheMetrics();
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public TwoLevelCache(RedisCache redisCache,
+                         com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> localCache,
+                         RedisConnectionFactory redisConnectionFactory,
+                         Executor refreshExecutor,
+                         CacheAccessRecorder cacheAccessRecorder,
+                         boolean negativeCaching) {
+        this.redisCache = redisCache;
+        this.localCache = localCache;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.refreshExecutor = refreshExecutor;
+        this.cacheAccessRecorder = cacheAccessRecorder;
+        this.negativeCaching = negativeCaching;
+    }
+
+    @Override
+    public String getName() {
+        return redisCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        cacheAccessRecorder.record(getName(), localKey(key));
+        LocalEntry local = localCache.getIfPresent(localKey(key));
+        if (local != null) {
+            metrics.localHit();
+            return new SimpleValueWrapper(fromStoreValue(local.value()));
+        }
+
+        ValueWrapper wrapper = redisCache.get(key);
+        if (wrapper == null) {
+            metrics.miss();
+            return null;
+        }
+        metrics.redisHit();
+        localCache.put(localKey(key), new LocalEntry(toStoreValue(wrapper.get()), 0, 0));
+        return new SimpleValueWrapper(fromStoreValue(wrapper.get()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치 : " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        cacheAccessRecorder.record(getName(), localKey(key));
+        LocalEntry local = localCache.getIfPresent(localKey(key));
+        if (local != null) {
+            metrics.localHit();
+            refreshAheadIfNeeded(key, local, valueLoader);
+            return (T) fromStoreValue(local.value());
+        }
+
+        return (T) fromStoreValue(loadOnce(localKey(key), () -> loadFromRedisOrSource(key, valueLoader)));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        localCache.put(localKey(key), new LocalEntry(toStoreValue(value), 0, 0));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        Object stored = existing != null ? existing.get() : value;
+        localCache.put(localKey(key), new LocalEntry(toStoreValue(stored), 0, 0));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        localCache.invalidate(localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        localCache.invalidate(localKey(key));
+        return redisCache.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+    }
+
+    @Override
+    public boolean invalidate() {
+        localCache.invalidateAll();
+        return redisCache.invalidate();
+    }
+
+    // 여러 키를 한 번에 조회, L1 에 없는 키만 Redis MGET 한 번으로 가져옴
+    // 캐시에 없는 키는 결과에서 빠지므로 호출하는 쪽에서 로딩 후 putAll
+    // 없는 ID 로 저장된 키는 NegativeCacheEntry 로 돌려주므로 호출하는 쪽에서 걸러내고 다시 로딩하지 않음
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> result = new LinkedHashMap<>();
+        List<Object> remoteKeys = new ArrayList<>();
+        for (Object key : keys) {
+            cacheAccessRecorder.record(getName(), localKey(key));
+            LocalEntry local = localCache.getIfPresent(localKey(key));
+            if (local == null) {
+                remoteKeys.add(key);
+                continue;
+            }
+            metrics.localHit();
+            result.put(key, local.value() instanceof NegativeCacheEntry ? local.value() : fromStoreValue(local.value()));
+        }
+        if (remoteKeys.isEmpty()) {
+            return result;
+        }
+
+        byte[][] redisKeys = remoteKeys.stream().map(this::redisKey).toArray(byte[][]::new);
+        List<byte[]> values;
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            values = connection.stringCommands().mGet(redisKeys);
+        }
+        if (values == null) {
+            remoteKeys.forEach(key -> metrics.miss());
+            return result;
+        }
+
+        for (int i = 0; i < remoteKeys.size(); i++) {
+            byte[] bytes = values.get(i);
+            Object value = bytes == null ? null
+                    : redisCache.getCacheConfiguration().getValueSerializationPair().read(ByteBuffer.wrap(bytes));
+            if (value == null) {
+                metrics.miss();
+                continue;
+            }
+            metrics.redisHit();
+            Object key = remoteKeys.get(i);
+            localCache.put(localKey(key), new LocalEntry(value, 0, 0));
+            result.put(key, value);
+        }
+        return result;
+    }
+
+    // 여러 값을 파이프라인 SET 한 번으로 저장 (키마다 TTL 함수 적용, null 값은 받지 않음)
+    // 없는 ID 는 NegativeCacheEntry 로 넘기고, negativeCaching 이 꺼진 캐시면 저장하지 않음
+    public void putAll(Map<?, ?> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.openPipeline();
+            for (Map.Entry<?, ?> entry : values.entrySet()) {
+                Object value = entry.getValue();
+                if (!negativeCaching && value instanceof NegativeCacheEntry) {
+                    continue;
+                }
+                Duration ttl = redisCache.getCacheConfiguration().getTtlFunction().getTimeToLive(entry.getKey(), value);
+                Expiration expiration = ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(ttl);
+                connection.stringCommands().set(redisKey(entry.getKey()), serialize(value), expiration,
+                        RedisStringCommands.SetOption.upsert());
+                long expiresAt = ttl.isZero() || ttl.isNegative() ? 0 : now + ttl.toMillis();
+                localCache.put(localKey(entry.getKey()), new LocalEntry(value, 0, expiresAt));
+            }
+            connection.closePipeline();
+        }
+    }
+
+    public CacheStats stats() {
+        return metrics.snapshot(getName(), localCache.estimatedSize(), cacheAccessRecorder.hotKeys(getName()));
+    }
+
+    // 다른 노드에서 변경된 경우 Redis 는 이미 무효화되어 있으므로 L1 만 비움
+    public void evictLocal(Object key) {
+        localCache.invalidate(localKey(key));
+    }
+
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    // 같은 키를 동시에 조회하면 첫 요청만 로딩하고 나머지는 그 결과를 기다림
+    private Object loadOnce(String localKey, Supplier<Object> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(localKey, flight);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            Object value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, flight);
+        }
+    }
+
+    private Object loadFromRedisOrSource(Object key, Callable<?> valueLoader) {
+        ValueWrapper wrapper = redisCache.get(key);
+        if (wrapper != null) {
+            metrics.redisHit();
+            LocalEntry entry = new LocalEntry(toStoreValue(wrapper.get()), 0, redisExpiresAt(key));
+            localCache.put(localKey(key), entry);
+            refreshAheadIfNeeded(key, entry, valueLoader);
+            return entry.value();
+        }
+        metrics.miss();
+        return loadFromSource(key, valueLoader).value();
+    }
+
+    private LocalEntry loadFromSource(Object key, Callable<?> valueLoader) {
+        long start = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+            metrics.loaded(System.nanoTime() - startNanos);
+        } catch (Exception e) {
+            metrics.loadFailed(System.nanoTime() - startNanos);
+            EntityNotFoundException notFound = findNotFound(e);
+            if (!negativeCaching || notFound == null) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            value = new NegativeCacheEntry(notFound.getMessage());
+        }
+        long now = System.currentTimeMillis();
+
+        redisCache.put(key, value);
+        Duration ttl = redisCache.getCacheConfiguration().getTtlFunction().getTimeToLive(key, value);
+        long expiresAt = ttl.isZero() || ttl.isNegative() ? 0 : now + ttl.toMillis();
+
+        LocalEntry entry = new LocalEntry(toStoreValue(value), now - start, expiresAt);
+        localCache.put(localKey(key), entry);
+        return entry;
+    }
+
+    // XFetch : 만료까지 남은 시간이 재계산 시간 * beta * -ln(rand) 보다 짧으면 백그라운드에서 갱신
+    private void refreshAheadIfNeeded(Object key, LocalEntry entry, Callable<?> valueLoader) {
+        // 없는 ID 결과는 짧은 TTL 로 만료시키고 미리 갱신하지 않음
+        if (entry.expiresAt() == 0 || entry.value() instanceof NegativeCacheEntry) {
+            return;
+        }
+        long recomputeMillis = Math.max(entry.recomputeMillis(), MIN_RECOMPUTE_MILLIS);
+        double gap = -recomputeMillis * REFRESH_AHEAD_BETA * Math.log(ThreadLocalRandom.current().nextDouble());
+        if (System.currentTimeMillis() + gap < entry.expiresAt()) {
+            return;
+        }
+
+        String localKey = localKey(key);
+        if (inFlight.containsKey(localKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    loadOnce(localKey, () -> loadFromSource(key, valueLoader).value());
+                    log.info("캐시 조기 갱신 - {}::{}", getName(), localKey);
+                } catch (RuntimeException e) {
+                    log.warn("캐시 조기 갱신 실패 - {}::{}", getName(), localKey, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 작업이 밀려 있으면 이번 갱신은 건너뛰고 다음 조회에서 다시 시도
+        }
+    }
+
+    private long redisExpiresAt(Object key) {
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            Long pttl = connection.keyCommands().pTtl(redisKey(key));
+            return pttl == null || pttl < 0 ? 0 : System.currentTimeMillis() + pttl;
+        }
+    }
+
+    // RedisCache 가 저장하는 키와 같은 형식 (prefix + 문자열 키)
+    private byte[] redisKey(Object key) {
+        return (redisCache.getCacheConfiguration().getKeyPrefixFor(getName()) + localKey(key))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] serialize(Object value) {
+        ByteBuffer buffer = redisCache.getCacheConfiguration().getValueSerializationPair().write(value);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    // Redis 캐시 키와 동일하게 문자열로 맞춰서 pub/sub 메시지의 키로도 삭제할 수 있도록 함
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Object toStoreValue(Object value) {
+        return value != null ? value : NullValue.INSTANCE;
+    }
+
+    private Object fromStoreValue(Object value) {
+        if (value instanceof NegativeCacheEntry negative) {
+            throw new EntityNotFoundException(negative.message());
+        }
+        return value == NullValue.INSTANCE ? null : value;
+    }
+
+    // @Cacheable 로더는 원래 예외를 CacheOperationInvoker.ThrowableWrapper 로 감싸서 던지므로 cause 를 따라가며 찾음
+    private EntityNotFoundException findNotFound(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof EntityNotFoundException notFound) {
+                return notFound;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,146 @@
+package com.dahoon.qpbetask.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// RedisCacheManager 앞에 캐시 이름별 L1 설정을 붙이는 CacheManager
+// L1 설정이 없는 캐시는 Redis 캐시를 그대로 사용
+public class TwoLevelCacheManager implements CacheManager, DisposableBean {
+
+    // negativeTtl 이 있으면 없는 ID 조회 결과도 그 시간만큼 캐싱
+    public record LocalCacheSpec(long maximumSize, Duration ttl, Duration negativeTtl) {
+
+        public LocalCacheSpec(long maximumSize, Duration ttl) {
+            this(maximumSize, ttl, null);
+        }
+    }
+
+    private final RedisCacheManager redisCacheManager;
+    private final Map<String, LocalCacheSpec> localCacheSpecs;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final CacheAccessRecorder cacheAccessRecorder;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    // 조기 갱신 전용 스레드풀, 밀리면 갱신을 버리고 만료 후 single-flight 로딩에 맡김
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(
+            1, 4, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(100),
+            new CustomizableThreadFactory("cache-refresh-"),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                Map<String, LocalCacheSpec> localCacheSpecs,
+                                RedisConnectionFactory redisConnectionFactory,
+                                CacheAccessRecorder cacheAccessRecorder) {
+        this.redisCacheManager = redisCacheManager;
+        this.localCacheSpecs = Map.copyOf(localCacheSpecs);
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.cacheAccessRecorder = cacheAccessRecorder;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> decorate(cacheName, (RedisCache) redisCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    public void evictLocal(String cacheName, Object key) {
+        if (caches.get(cacheName) instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.evictLocal(key);
+        }
+    }
+
+    public void clearLocal(String cacheName) {
+        if (caches.get(cacheName) instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.clearLocal();
+        }
+    }
+
+    // L1 을 쓰는 캐시들의 히트/미스/로딩 통계 (이름순)
+    public List<CacheStats> stats() {
+        return localCacheSpecs.keySet().stream()
+                .sorted()
+                .map(this::getCache)
+                .filter(TwoLevelCache.class::isInstance)
+                .map(cache -> ((TwoLevelCache) cache).stats())
+                .toList();
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private Cache decorate(String cacheName, RedisCache redisCache) {
+        LocalCacheSpec spec = localCacheSpecs.get(cacheName);
+        if (spec == null) {
+            return redisCache;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCache.LocalEntry> localCache = spec.negativeTtl() == null
+                ? Caffeine.newBuilder()
+                        .maximumSize(spec.maximumSize())
+                        .expireAfterWrite(spec.ttl())
+                        .build()
+                : Caffeine.newBuilder()
+                        .maximumSize(spec.maximumSize())
+                        .expireAfter(new LocalEntryExpiry(spec.ttl(), spec.negativeTtl()))
+                        .build();
+
+        return new TwoLevelCache(redisCache,
+                localCache,
+                redisConnectionFactory,
+                refreshExecutor,
+                cacheAccessRecorder,
+                spec.negativeTtl() != null);
+    }
+
+    // 없는 ID 결과는 negativeTtl, 나머지는 ttl 후 만료 (조회는 만료 시각에 영향 없음)
+    private record LocalEntryExpiry(Duration ttl, Duration negativeTtl) implements Expiry<String, TwoLevelCache.LocalEntry> {
+
+        @Override
+        public long expireAfterCreate(String key, TwoLevelCache.LocalEntry entry, long currentTime) {
+            return (entry.value() instanceof NegativeCacheEntry ? negativeTtl : ttl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TwoLevelCache.LocalEntry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TwoLevelCache.LocalEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
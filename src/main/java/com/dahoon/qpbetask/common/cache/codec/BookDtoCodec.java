@@ -0,0 +1,68 @@
+package com.dahoon.qpbetask.common.cache.codec;
+
+import com.dahoon.qpbetask.book.BookDto;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+// 플래그, id, title, author, publishedDate(epoch day), tagSet 순서
+// id, 출판일, 태그는 null 가능하므로 플래그 비트로 값이 있는지 표시하고 있는 값만 씀
+// 출판일은 1970년 이전이면 음수라 zigzag 로 저장
+public class BookDtoCodec implements CompactCodec<BookDto> {
+
+    private static final int HAS_ID = 0x01;
+    private static final int HAS_PUBLISHED_DATE = 0x02;
+    private static final int HAS_TAG_SET = 0x04;
+
+    @Override
+    public void write(DataOutputStream out, BookDto value) throws IOException {
+        Set<String> tagSet = value.getTagSet();
+        int flags = (value.getId() != null ? HAS_ID : 0)
+                | (value.getPublishedDate() != null ? HAS_PUBLISHED_DATE : 0)
+                | (tagSet != null ? HAS_TAG_SET : 0);
+        out.writeByte(flags);
+
+        if (value.getId() != null) {
+            CompactCodec.writeVarLong(out, value.getId());
+        }
+        CompactCodec.writeString(out, value.getTitle());
+        CompactCodec.writeString(out, value.getAuthor());
+        if (value.getPublishedDate() != null) {
+            CompactCodec.writeZigZagLong(out, value.getPublishedDate().toEpochDay());
+        }
+
+        if (tagSet != null) {
+            CompactCodec.writeVarLong(out, tagSet.size());
+            for (String tag : tagSet) {
+                CompactCodec.writeString(out, tag);
+            }
+        }
+    }
+
+    @Override
+    public BookDto read(DataInputStream in) throws IOException {
+        int flags = in.readUnsignedByte();
+
+        Long id = (flags & HAS_ID) != 0 ? CompactCodec.readVarLong(in) : null;
+        String title = CompactCodec.readString(in);
+        String author = CompactCodec.readString(in);
+        LocalDate publishedDate = (flags & HAS_PUBLISHED_DATE) != 0
+                ? LocalDate.ofEpochDay(CompactCodec.readZigZagLong(in))
+                : null;
+
+        Set<String> tagSet = null;
+        if ((flags & HAS_TAG_SET) != 0) {
+            int tagCount = (int) CompactCodec.readVarLong(in);
+            tagSet = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tagSet.add(CompactCodec.readString(in));
+            }
+        }
+
+        return new BookDto(id, title, author, publishedDate, tagSet);
+    }
+}
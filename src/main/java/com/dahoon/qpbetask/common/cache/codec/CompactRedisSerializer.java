@@ -0,0 +1,116 @@
+package com.dahoon.qpbetask.common.cache.codec;
+
+import com.dahoon.qpbetask.common.cache.NegativeCacheEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+// [버전 1byte][플래그 1byte][본문] 형식의 캐시 값 직렬화
+// 본문이 임계값보다 크면 Deflate 로 압축, 버전이 다른 값(배포 전 Jackson 값 포함)은 캐시 미스로 처리
+// 없는 ID 조회 결과(NegativeCacheEntry)는 플래그를 세우고 본문에 메시지만 저장
+@Slf4j
+public class CompactRedisSerializer<T> implements RedisSerializer<T> {
+
+    // 2 : 도서, 사용자 코덱의 null 가능 필드를 플래그 바이트로 표시
+    public static final byte VERSION = 2;
+    private static final byte FLAG_COMPRESSED = 0x01;
+    private static final byte FLAG_NEGATIVE = 0x02;
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 512;
+
+    private final CompactCodec<T> codec;
+    private final int compressionThreshold;
+
+    public CompactRedisSerializer(CompactCodec<T> codec) {
+        this(codec, DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    public CompactRedisSerializer(CompactCodec<T> codec, int compressionThreshold) {
+        this.codec = codec;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte flags = 0;
+            if (value instanceof NegativeCacheEntry negative) {
+                CompactCodec.writeString(new DataOutputStream(body), negative.message());
+                flags |= FLAG_NEGATIVE;
+            } else {
+                codec.write(new DataOutputStream(body), value);
+            }
+
+            byte[] payload = body.toByteArray();
+            if (payload.length > compressionThreshold) {
+                byte[] compressed = compress(payload);
+                if (compressed.length < payload.length) {
+                    payload = compressed;
+                    flags |= FLAG_COMPRESSED;
+                }
+            }
+
+            byte[] result = new byte[payload.length + 2];
+            result[0] = VERSION;
+            result[1] = flags;
+            System.arraycopy(payload, 0, result, 2, payload.length);
+            return result;
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 오류", e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < 2 || bytes[0] != VERSION) {
+            log.debug("지원하지 않는 캐시 값 형식, 캐시 미스로 처리");
+            return null;
+        }
+
+        try {
+            InputStream body = new ByteArrayInputStream(bytes, 2, bytes.length - 2);
+            if ((bytes[1] & FLAG_COMPRESSED) != 0) {
+                // 필드 단위로 작게 읽으므로 한 번에 풀어둔 뒤 읽음
+                try (InflaterInputStream inflater = new InflaterInputStream(body)) {
+                    body = new ByteArrayInputStream(inflater.readAllBytes());
+                }
+            }
+            if ((bytes[1] & FLAG_NEGATIVE) != 0) {
+                // RedisCache 는 값 타입을 확인하지 않으므로 TwoLevelCache 까지 그대로 전달됨
+                return (T) new NegativeCacheEntry(CompactCodec.readString(new DataInputStream(body)));
+            }
+            return codec.read(new DataInputStream(body));
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 역직렬화 오류", e);
+        }
+    }
+
+    private byte[] compress(byte[] payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(payload.length / 2);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(compressed, deflater)) {
+            out.write(payload);
+        } finally {
+            deflater.end();
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,28 @@
+package com.dahoon.qpbetask.common.cache.codec;
+
+import com.dahoon.qpbetask.common.pagination.CursorPage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+// content 목록, nextCursor(null 가능) 순서
+public class CursorPageCodec<E> implements CompactCodec<CursorPage<E>> {
+
+    private final ListCodec<E> contentCodec;
+
+    public CursorPageCodec(CompactCodec<E> elementCodec) {
+        this.contentCodec = new ListCodec<>(elementCodec);
+    }
+
+    @Override
+    public void write(DataOutputStream out, CursorPage<E> value) throws IOException {
+        contentCodec.write(out, value.content());
+        CompactCodec.writeString(out, value.nextCursor());
+    }
+
+    @Override
+    public CursorPage<E> read(DataInputStream in) throws IOException {
+        return new CursorPage<>(contentCodec.read(in), CompactCodec.readString(in));
+    }
+}
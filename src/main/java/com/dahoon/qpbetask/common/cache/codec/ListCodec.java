@@ -0,0 +1,34 @@
+package com.dahoon.qpbetask.common.cache.codec;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ListCodec<E> implements CompactCodec<List<E>> {
+
+    private final CompactCodec<E> elementCodec;
+
+    public ListCodec(CompactCodec<E> elementCodec) {
+        this.elementCodec = elementCodec;
+    }
+
+    @Override
+    public void write(DataOutputStream out, List<E> value) throws IOException {
+        CompactCodec.writeVarLong(out, value.size());
+        for (E element : value) {
+            elementCodec.write(out, element);
+        }
+    }
+
+    @Override
+    public List<E> read(DataInputStream in) throws IOException {
+        int size = (int) CompactCodec.readVarLong(in);
+        List<E> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(elementCodec.read(in));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,33 @@
+package com.dahoon.qpbetask.common.cache.codec;
+
+import com.dahoon.qpbetask.user.dto.UserDto;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+// 플래그, id, username, password 순서
+// id 는 null 가능하므로 플래그 비트로 값이 있는지 표시
+public class UserDtoCodec implements CompactCodec<UserDto> {
+
+    private static final int HAS_ID = 0x01;
+
+    @Override
+    public void write(DataOutputStream out, UserDto value) throws IOException {
+        out.writeByte(value.getId() != null ? HAS_ID : 0);
+        if (value.getId() != null) {
+            CompactCodec.writeVarLong(out, value.getId());
+        }
+        CompactCodec.writeString(out, value.getUsername());
+        CompactCodec.writeString(out, value.getPassword());
+    }
+
+    @Override
+    public UserDto read(DataInputStream in) throws IOException {
+        int flags = in.readUnsignedByte();
+        Long id = (flags & HAS_ID) != 0 ? CompactCodec.readVarLong(in) : null;
+        return new UserDto(id,
+                CompactCodec.readString(in),
+                CompactCodec.readString(in));
+    }
+}
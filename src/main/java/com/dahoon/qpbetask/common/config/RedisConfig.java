@@ -1,29 +1,50 @@
 package com.dahoon.qpbetask.common.config;
 
 import com.dahoon.qpbetask.book.BookDto;
+import com.dahoon.qpbetask.book.search.BookSearchIndexSynchronizer;
+import com.dahoon.qpbetask.common.cache.CacheAccessRecorder;
+import com.dahoon.qpbetask.common.cache.CacheInvalidationPublisher;
+import com.dahoon.qpbetask.common.cache.CacheInvalidationSubscriber;
+import com.dahoon.qpbetask.common.cache.JitteredTtlFunction;
+import com.dahoon.qpbetask.common.cache.NegativeCachingTtlFunction;
+import com.dahoon.qpbetask.common.cache.TwoLevelCacheManager;
+import com.dahoon.qpbetask.common.cache.TwoLevelCacheManager.LocalCacheSpec;
+import com.dahoon.qpbetask.common.cache.codec.BookDtoCodec;
+import com.dahoon.qpbetask.common.cache.codec.CompactRedisSerializer;
+import com.dahoon.qpbetask.common.cache.codec.CursorPageCodec;
+import com.dahoon.qpbetask.common.cache.codec.ListCodec;
+import com.dahoon.qpbetask.common.cache.codec.UserDtoCodec;
+import com.dahoon.qpbetask.common.pagination.CursorPage;
 import com.dahoon.qpbetask.user.dto.UserDto;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.*;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
-@EnableCaching
+// 캐시 조회가 트랜잭션보다 바깥에서 실행되도록 함 (캐시 히트 시 커넥션을 잡지 않고, 백그라운드 갱신도 트랜잭션 안에서 로딩)
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
 public class RedisConfig {
     // RedisConnection 최적화는 생략 (스프링부트 기본 설정 사용)
 
+    // 없는 ID 조회 결과 캐싱 시간, 생성 시점에는 바로 무효화하므로 잘못된 ID 가 몰릴 때 DB 를 보호하는 정도로만 유지
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -32,43 +53,94 @@ public class RedisConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper,
+                                             CacheAccessRecorder cacheAccessRecorder) {
+        // L1 은 pub/sub 메시지 유실에 대비해 Redis TTL 보다 짧게 유지
+        Map<String, LocalCacheSpec> localCacheSpecs = new HashMap<>();
+        localCacheSpecs.put("book", new LocalCacheSpec(10_000, Duration.ofMinutes(5), NEGATIVE_TTL));
+        localCacheSpecs.put("books", new LocalCacheSpec(1_000, Duration.ofMinutes(1)));
+        localCacheSpecs.put("bookPages", new LocalCacheSpec(1_000, Duration.ofMinutes(1)));
+        localCacheSpecs.put("bookTitlePages", new LocalCacheSpec(1_000, Duration.ofMinutes(1)));
+        localCacheSpecs.put("bookAuthorPages", new LocalCacheSpec(1_000, Duration.ofMinutes(1)));
+        localCacheSpecs.put("user", new LocalCacheSpec(10_000, Duration.ofMinutes(5), NEGATIVE_TTL));
+        localCacheSpecs.put("users", new LocalCacheSpec(10, Duration.ofMinutes(1)));
+
+        return new TwoLevelCacheManager(redisCacheManager(redisConnectionFactory, objectMapper), localCacheSpecs,
+                redisConnectionFactory, cacheAccessRecorder);
+    }
+
+    RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10)) // 기본 TTL 10분
+                .entryTtl(new JitteredTtlFunction(Duration.ofMinutes(10), 0.1)) // 기본 TTL 10분
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
                         new GenericJackson2JsonRedisSerializer(objectMapper)));
 
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
+        // 같은 시각에 채워진 항목이 한꺼번에 만료되지 않도록 TTL 을 10% 범위에서 분산
+        // 도서/사용자 DTO 는 클래스 이름 없이 바이너리로 저장 (CompactRedisSerializer)
         cacheConfigurations.put("books", RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(30))
+                .entryTtl(new JitteredTtlFunction(Duration.ofMinutes(30), 0.1))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
-                        new GenericJackson2JsonRedisSerializer(objectMapper))));
+                        bookListSerializer())));
+
+        cacheConfigurations.put("bookPages", RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(new JitteredTtlFunction(Duration.ofMinutes(30), 0.1))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        bookPageSerializer())));
 
         cacheConfigurations.put("book", RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(30))
+                .entryTtl(new NegativeCachingTtlFunction(
+                        new JitteredTtlFunction(Duration.ofMinutes(30), 0.1), NEGATIVE_TTL))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
-                        bookSerializer(objectMapper))));
+                        bookSerializer())));
 
         cacheConfigurations.put("user", RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
+                .entryTtl(new NegativeCachingTtlFunction(
+                        new JitteredTtlFunction(Duration.ofMinutes(10), 0.1), NEGATIVE_TTL))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
-                        userSerializer(objectMapper))));
+                        userSerializer())));
 
-        cacheConfigurations.put("booksByTag", RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(30))
+        cacheConfigurations.put("users", RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(new JitteredTtlFunction(Duration.ofMinutes(10), 0.1))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
-                        new GenericJackson2JsonRedisSerializer(objectMapper))));
+                        new CompactRedisSerializer<>(new ListCodec<>(new UserDtoCodec())))));
+
+        // 검색 결과는 전체 목록 대신 페이지 단위로 저장
+        cacheConfigurations.put("bookTitlePages", RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(new JitteredTtlFunction(Duration.ofMinutes(10), 0.1))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        bookPageSerializer())));
+
+        cacheConfigurations.put("bookAuthorPages", RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(new JitteredTtlFunction(Duration.ofMinutes(10), 0.1))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        bookPageSerializer())));
 
         cacheConfigurations.put("refreshTokens", RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(5)) // RefreshToken TTL 5분
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
                         new GenericJackson2JsonRedisSerializer(objectMapper))));
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        // 빈이 아니라 TwoLevelCacheManager 안에서만 쓰므로 직접 초기화
+        // 초기화하지 않으면 캐시별 설정이 무시되고 모든 캐시가 기본 설정(JSON, 10분)으로 만들어짐
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       CacheInvalidationSubscriber cacheInvalidationSubscriber,
+                                                                       BookSearchIndexSynchronizer bookSearchIndexSynchronizer) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheInvalidationSubscriber, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        container.addMessageListener(bookSearchIndexSynchronizer, new ChannelTopic(BookSearchIndexSynchronizer.CHANNEL));
+        return container;
     }
 
     @Bean
@@ -84,11 +156,19 @@ public class RedisConfig {
         return template;
     }
 
-    private RedisSerializer<BookDto> bookSerializer(ObjectMapper objectMapper) {
-        return new Jackson2JsonRedisSerializer<>(objectMapper, BookDto.class);
+    private RedisSerializer<BookDto> bookSerializer() {
+        return new CompactRedisSerializer<>(new BookDtoCodec());
+    }
+
+    private RedisSerializer<List<BookDto>> bookListSerializer() {
+        return new CompactRedisSerializer<>(new ListCodec<>(new BookDtoCodec()));
+    }
+
+    private RedisSerializer<CursorPage<BookDto>> bookPageSerializer() {
+        return new CompactRedisSerializer<>(new CursorPageCodec<>(new BookDtoCodec()));
     }
 
-    private RedisSerializer<UserDto> userSerializer(ObjectMapper objectMapper) {
-        return new Jackson2JsonRedisSerializer<>(objectMapper, UserDto.class);
+    private RedisSerializer<UserDto> userSerializer() {
+        return new CompactRedisSerializer<>(new UserDtoCodec());
     }
 }
@@ -33,7 +33,8 @@ public class SecurityConfig {
                         .requestMatchers("/v3/api-docs/**",
                                 "/v3/api-docs**",
                                 "/swagger-ui/**",
-                                "/swagger-ui.html").permitAll()
+                                "/swagger-ui.html",
+                                "/actuator/health").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/users/**").permitAll()
                         .anyRequest().authenticated())
 //                        .anyRequest().permitAll())
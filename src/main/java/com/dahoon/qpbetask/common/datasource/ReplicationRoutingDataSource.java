@@ -0,0 +1,54 @@
+package com.dahoon.qpbetask.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// readOnly 트랜잭션은 레플리카, 나머지는 프라이머리로 보내는 DataSource
+// 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    // 이 요청의 이후 조회를 프라이머리에서 할지 표시하는 요청 속성 (쓰기 트랜잭션을 열었거나 직접 요청한 경우)
+    static final String PRIMARY_ATTRIBUTE = ReplicationRoutingDataSource.class.getName() + ".PRIMARY";
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    // 현재 요청의 이후 읽기 전용 트랜잭션도 프라이머리에서 조회 (요청 밖이면 아무것도 하지 않음)
+    // 레플리카를 쓰지 않는 설정에서는 라우팅 자체가 없으므로 영향 없음
+    public static void usePrimaryForCurrentRequest() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(PRIMARY_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 쓰기 트랜잭션을 연 요청은 이후 조회도 프라이머리에서 (복제 지연 중 방금 쓴 데이터가 안 보이는 문제 방지)
+            // 트랜잭션 밖 커넥션(LazyConnectionDataSourceProxy 의 기본 설정 확인 등)은 표시하지 않음
+            if (request != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                request.setAttribute(PRIMARY_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+            }
+            return Route.PRIMARY;
+        }
+
+        if (request != null && request.getAttribute(PRIMARY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+}
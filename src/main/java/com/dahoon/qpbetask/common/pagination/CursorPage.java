@@ -0,0 +1,41 @@
+package com.dahoon.qpbetask.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// 커서 기반 페이지, 다음 페이지가 없으면 nextCursor 는 null
+// 커서는 마지막 항목의 정렬 키를 Base64(URL-safe) 로 감싼 값이며 클라이언트는 내용을 해석하지 않고 그대로 전달
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    private static final String SEPARATOR = "\u0000";
+
+    // size + 1 개를 조회한 결과로 페이지를 만듦, 넘친 1개가 있으면 size 번째 항목의 키가 다음 커서
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String[]> cursorKey) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> content = List.copyOf(fetched.subList(0, size));
+        return new CursorPage<>(content, encodeCursor(cursorKey.apply(content.get(size - 1))));
+    }
+
+    public static String encodeCursor(String... values) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(SEPARATOR, values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 형식이 다르면 IllegalArgumentException (400)
+    public static String[] decodeCursor(String cursor, int expectedValues) {
+        String[] values;
+        try {
+            values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        if (values.length != expectedValues) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return values;
+    }
+}
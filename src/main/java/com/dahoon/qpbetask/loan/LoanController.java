@@ -16,6 +16,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequiredArgsConstructor
 @Slf4j
@@ -53,6 +56,20 @@ public class LoanController {
         return ResponseEntity.ok(loanService.checkLoan(bookId));
     }
 
+    @GetMapping("/status")
+    @Operation(summary = "여러 도서 대출 가능 여부 확인", description = "도서 ID 목록의 대출 가능 여부를 한 번에 조회합니다. 없는 도서 ID 는 결과에서 제외됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공, 도서 ID별 대출 가능 여부", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "한 번에 조회할 수 있는 개수 초과")
+    })
+    public ResponseEntity<Map<Long, Boolean>> checkAvailability(
+            @Parameter(description = "도서 ID 목록 (최대 1000개)", example = "1,2,3", in = ParameterIn.QUERY)
+            @RequestParam(name = "ids") List<Long> bookIds) {
+        log.info("대출 가능 여부 일괄 확인 컨트롤러 - {}개", bookIds.size());
+
+        return ResponseEntity.ok(loanService.checkAvailability(bookIds));
+    }
+
     @PatchMapping("/{id}")
     @Operation(summary = "도서 반납", description = "도서 ID를 통해 반납되지 않은 대출 기록을 조회 후 반납 처리")
     @ApiResponses(value = {
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LoanRepository extends JpaRepository<Loan, Long> {
@@ -14,6 +15,11 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
 
     Optional<Loan> findByBookAndReturnDateIsNull(Book book);
 
+    @Query("select l.book.id " +
+            "from Loan l " +
+            "where l.returnDate is null")
+    List<Long> findBorrowedBookIds();
+
     @Query("select l " +
             "from Loan l " +
             "JOIN FETCH l.book " +
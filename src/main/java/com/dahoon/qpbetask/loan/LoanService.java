@@ -1,34 +1,39 @@
 package com.dahoon.qpbetask.loan;
 
+import com.dahoon.qpbetask.book.BookService;
 import com.dahoon.qpbetask.book.entity.Book;
 import com.dahoon.qpbetask.book.repository.BookRepository;
-import com.dahoon.qpbetask.common.cache.CacheInvalidationPublisher;
 import com.dahoon.qpbetask.user.User;
 import com.dahoon.qpbetask.user.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LoanService {
 
+    public static final int MAX_STATUS_BATCH_SIZE = 1_000;
+
     private final LoanRepository loanRepository;
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
-    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final BookService bookService;
+    private final LoanStatusRegistry loanStatusRegistry;
 
     @Transactional
-    @CacheEvict(value = "loans", key = "#loanIds.bookId")
     public LoanDto loanBook(LoanDto loanIds) {
         Book book = bookRepository.findById(loanIds.getBookId())
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 도서가 없습니다."));
@@ -53,29 +58,50 @@ public class LoanService {
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
-                log.info("Loan 캐싱 afterCommit");
-                cacheInvalidationPublisher.publishInvalidationMessage("loans::" + loanIds.getBookId());
+                log.info("대출 상태 afterCommit");
+                loanStatusRegistry.markBorrowed(loanIds.getBookId());
             }
         });
 
         return savedLoanDto;
     }
 
-    @Cacheable(value = "loans", key = "#id")
+    // 대출 중인지는 Redis 집합으로 확인하고, 아니면 도서 캐시로 존재 여부만 확인 (없는 ID 도 캐싱되어 MySQL 을 거치지 않음)
+    // 트랜잭션을 걸지 않음 : Redis 집합이나 도서 캐시에서 끝나면 커넥션을 잡지 않고, DB 조회는 showBook 의 readOnly 트랜잭션(레플리카)에서 실행
     public String checkLoan(Long id) {
-        Book book = bookRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("해당 ID의 도서가 존재하지 않습니다."));
-        log.info("서비스 - 도서 조회 성공");
-
-        if (loanRepository.existsByBookAndReturnDateIsNull(book)) {
+        if (loanStatusRegistry.isBorrowed(id)) {
             return "대출 중인 도서입니다.";
-        } else {
-            return "대출 가능한 도서입니다.";
         }
+
+        bookService.showBook(id);
+        return "대출 가능한 도서입니다.";
+    }
+
+    // 여러 도서의 대출 가능 여부를 한 번에 확인, 없는 ID 는 결과에서 제외
+    // 대출 중이 아닌 도서만 도서 캐시(showBooks, 없는 ID 도 캐싱)로 존재 여부를 확인
+    public Map<Long, Boolean> checkAvailability(List<Long> ids) {
+        if (ids.size() > MAX_STATUS_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 도서는 최대 " + MAX_STATUS_BATCH_SIZE + "개입니다.");
+        }
+
+        Map<Long, Boolean> borrowed = loanStatusRegistry.borrowedOf(new LinkedHashSet<>(ids));
+        List<Long> notBorrowedIds = borrowed.entrySet().stream()
+                .filter(entry -> !entry.getValue())
+                .map(Map.Entry::getKey)
+                .toList();
+
+        Set<Long> existingIds = new HashSet<>();
+        for (int from = 0; from < notBorrowedIds.size(); from += BookService.MAX_BATCH_SIZE) {
+            List<Long> chunk = notBorrowedIds.subList(from, Math.min(from + BookService.MAX_BATCH_SIZE, notBorrowedIds.size()));
+            bookService.showBooks(chunk).forEach(book -> existingIds.add(book.getId()));
+        }
+
+        borrowed.entrySet().removeIf(entry -> !entry.getValue() && !existingIds.contains(entry.getKey()));
+        borrowed.replaceAll((id, isBorrowed) -> !isBorrowed);
+        return borrowed;
     }
 
     @Transactional
-    @CacheEvict(value = "loans", key = "#id")
     public void returnBook(Long id) {
         Loan loan = loanRepository.findBorrowingLoanByBookId(id)
                 .orElseThrow(() -> new EntityNotFoundException("이미 반납된 도서입니다."));
@@ -86,7 +112,7 @@ public class LoanService {
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
-                cacheInvalidationPublisher.publishInvalidationMessage("loans::" + id);
+                loanStatusRegistry.markAvailable(id);
             }
         });
     }
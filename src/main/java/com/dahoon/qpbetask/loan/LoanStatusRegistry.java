@@ -0,0 +1,93 @@
+package com.dahoon.qpbetask.loan;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 현재 대출 중인 도서 ID 집합 (Redis Set)
+// 대출/반납 커밋 이후 SADD/SREM 으로 갱신하고, 대출 여부 조회는 MySQL 없이 이 집합만 확인
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoanStatusRegistry implements ApplicationRunner {
+
+    private static final String KEY = "loan:borrowed";
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final LoanRepository loanRepository;
+
+    // 커밋 이후 호출해야 롤백된 대출이 집합에 남지 않음
+    public void markBorrowed(Long bookId) {
+        redisTemplate.opsForSet().add(KEY, String.valueOf(bookId));
+    }
+
+    public void markAvailable(Long bookId) {
+        redisTemplate.opsForSet().remove(KEY, String.valueOf(bookId));
+    }
+
+    public boolean isBorrowed(Long bookId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(KEY, String.valueOf(bookId)));
+    }
+
+    // SMISMEMBER 한 번으로 여러 도서의 대출 여부 확인 (요청 순서 유지)
+    public Map<Long, Boolean> borrowedOf(Collection<Long> bookIds) {
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        if (bookIds.isEmpty()) {
+            return result;
+        }
+
+        Map<Object, Boolean> members = redisTemplate.opsForSet().isMember(KEY,
+                bookIds.stream().map(String::valueOf).toArray());
+        for (Long bookId : bookIds) {
+            result.put(bookId, members != null && Boolean.TRUE.equals(members.get(String.valueOf(bookId))));
+        }
+        return result;
+    }
+
+    // 집합이 없으면(최초 배포, Redis 초기화) 기동 시 DB 에서 다시 만듦
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(KEY))) {
+            rebuild();
+        }
+    }
+
+    // 커밋 이후 갱신이 유실된 경우를 대비해 트래픽이 적은 시간에 DB 기준으로 다시 만듦
+    // 임시 키에 채운 뒤 RENAME 으로 교체하므로 조회 중에 빈 집합이 보이지 않음
+    // (DB 조회와 RENAME 사이에 일어난 대출/반납은 다음 재구성까지 반영되지 않을 수 있음)
+    @Scheduled(cron = "${loan.status.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Long> bookIds = loanRepository.findBorrowedBookIds();
+        if (bookIds.isEmpty()) {
+            redisTemplate.delete(KEY);
+            log.info("대출 상태 재구성 - 대출 중인 도서 없음");
+            return;
+        }
+
+        String tempKey = KEY + ":rebuild:" + UUID.randomUUID();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (int from = 0; from < bookIds.size(); from += REBUILD_CHUNK_SIZE) {
+                List<Long> chunk = bookIds.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, bookIds.size()));
+                stringConnection.sAdd(tempKey, chunk.stream().map(String::valueOf).toArray(String[]::new));
+            }
+            return null;
+        });
+        redisTemplate.rename(tempKey, KEY);
+        log.info("대출 상태 재구성 - {}권, {}ms", bookIds.size(), System.currentTimeMillis() - start);
+    }
+}
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,8 +28,12 @@ public class UserService {
     private final JwtTokenProvider jwtTokenProvider;
     private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
+    // 새 ID 로 저장되어 있던 '없는 사용자' 캐시도 함께 무효화
     @Transactional
-    @CacheEvict(value = "users", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "users", allEntries = true),
+            @CacheEvict(value = "user", key = "#result.id")
+    })
     public UserDto join(UserDto userDto) {
         if (userRepository.existsByUsername(userDto.getUsername())) {
             throw new IllegalArgumentException("이미 등록된 사용자 이름입니다.");
@@ -45,7 +50,8 @@ public class UserService {
             @Override
             public void afterCommit() {
                 log.info("캐시 afterCommit");
-                cacheInvalidationPublisher.publishInvalidationMessage("users");
+                cacheInvalidationPublisher.publishClear("users");
+                cacheInvalidationPublisher.publishEviction("user", savedUserDto.getId());
             }
         });
 
@@ -98,6 +104,7 @@ public class UserService {
         userRepository.save(user);
     }
 
+    @Transactional(readOnly = true)
     @Cacheable(value = "users")
     public List<UserDto> showUserList() {
         List<User> userList = userRepository.findAll();
@@ -106,7 +113,7 @@ public class UserService {
                 .toList();
     }
 
-    @Cacheable(value = "user", key = "#id")
+    @Cacheable(value = "user", key = "#id", sync = true)
     public UserDto showUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("해당 ID의 사용자가 없습니다."));
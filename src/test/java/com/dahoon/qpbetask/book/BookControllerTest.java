@@ -6,10 +6,15 @@ import com.dahoon.qpbetask.book.entity.Tag;
 import com.dahoon.qpbetask.book.repository.BookRepository;
 import com.dahoon.qpbetask.book.repository.BookTagRepository;
 import com.dahoon.qpbetask.book.repository.TagRepository;
+import com.dahoon.qpbetask.book.search.BookSearchIndex;
+import com.dahoon.qpbetask.book.search.ChosungIndex;
+import com.dahoon.qpbetask.book.search.TagBitmapIndex;
 import com.dahoon.qpbetask.user.User;
 import com.dahoon.qpbetask.user.UserRepository;
 import com.dahoon.qpbetask.user.component.JwtTokenProvider;
 import com.dahoon.qpbetask.user.dto.JwtTokenDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,10 +24,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -31,6 +39,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+// 테스트 데이터는 리포지토리로 직접 저장하므로 저장 후 메모리 색인을 다시 만듦 (같은 스레드라 커밋 전 데이터도 읽힘)
+// 롤백 후에는 다음 테스트를 위해 롤백된 데이터가 빠진 색인으로 다시 만듦
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureMockMvc
 @Transactional
@@ -49,6 +59,12 @@ public class BookControllerTest {
     private JwtTokenProvider jwtTokenProvider;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private BookSearchIndex bookSearchIndex;
+    @Autowired
+    private ChosungIndex chosungIndex;
+    @Autowired
+    private TagBitmapIndex tagBitmapIndex;
 
     private static final Logger log = LoggerFactory.getLogger(BookControllerTest.class);
     private final ObjectMapper objectMapper = new ObjectMapper()
@@ -81,6 +97,14 @@ public class BookControllerTest {
                 .build());
 
         jwtTokenDto = jwtTokenProvider.generateToken(savedUser.getUsername());
+        rebuildIndexes();
+    }
+
+    @AfterTransaction
+    void rebuildIndexes() {
+        bookSearchIndex.rebuild();
+        chosungIndex.rebuild();
+        tagBitmapIndex.rebuild();
     }
 
     @Test
@@ -120,6 +144,62 @@ public class BookControllerTest {
                 .andExpect(jsonPath("$[0].title").value("AEF"));
     }
 
+    @Test
+    void 도서목록_커서조회_출판일순() throws Exception {
+        // Given
+        bookRepository.save(Book.builder()
+                .title("abcd")
+                .author("강다훈")
+                .publishedDate(LocalDate.of(2024, 5, 3))
+                .build());
+
+        // When
+        String firstPage = mockMvc.perform(get("/api/books/scroll")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .param("sort", "date")
+                        .param("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("AEF"))
+                .andExpect(jsonPath("$.content[1].title").value("abcd"))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        // Then
+        // 출판일이 같은 도서는 ID 순서로 이어서 조회
+        mockMvc.perform(get("/api/books/scroll")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .param("sort", "date")
+                        .param("size", "2")
+                        .param("cursor", nextCursor)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("ABC"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void 도서목록_커서조회_다른정렬기준커서() throws Exception {
+        // Given
+        String firstPage = mockMvc.perform(get("/api/books/scroll")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .param("sort", "title")
+                        .param("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        // When & Then
+        mockMvc.perform(get("/api/books/scroll")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .param("sort", "date")
+                        .param("cursor", nextCursor)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void 도서조회_MySQL에서생성한Id() throws Exception {
         // Given
@@ -135,6 +215,23 @@ public class BookControllerTest {
                 .andExpect(jsonPath("$.author").value("강다훈"));
     }
 
+    @Test
+    void 여러도서조회_없는Id제외() throws Exception {
+        // Given
+        Long missingId = savedBook2.getId() + 1_000_000;
+
+        // When & Then
+        mockMvc.perform(get("/api/books/batch")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .param("ids", String.valueOf(savedBook2.getId()), String.valueOf(missingId),
+                                String.valueOf(savedBook1.getId()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("AEF"))
+                .andExpect(jsonPath("$[1].title").value("ABC"));
+    }
+
     @Test
     void 도서수정() throws Exception {
         //Given
@@ -180,9 +277,132 @@ public class BookControllerTest {
                         .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$[0].title").value("ABC"))
-                .andExpect(jsonPath("$[1].title").value("AEF"));
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("ABC"))
+                .andExpect(jsonPath("$.content[1].title").value("AEF"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void 도서조회_저자별_초성() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/books/author/ㄱㄷ")
+                        .param("mode", "CHOSUNG")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("ABC"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void 도서조회_제목별_FULLTEXT_짧은검색어() throws Exception {
+        // Given
+        String keyword = "A";
+
+        // When & Then
+        // ngram 토큰보다 짧은 검색어는 FULLTEXT 대신 기존 방식으로 검색
+        mockMvc.perform(get("/api/books/title/" + keyword)
+                        .param("mode", "FULLTEXT")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("ABC"))
+                .andExpect(jsonPath("$.content[1].title").value("AEF"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void 도서조회_제목별_커서페이지() throws Exception {
+        // Given
+        String keyword = "A";
+
+        // When
+        String firstPage = mockMvc.perform(get("/api/books/title/" + keyword)
+                        .param("size", "1")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("ABC"))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        // Then
+        mockMvc.perform(get("/api/books/title/" + keyword)
+                        .param("size", "1")
+                        .param("cursor", nextCursor)
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("AEF"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void 도서조회_제목별_잘못된커서() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/books/title/A")
+                        .param("cursor", "!!")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 도서일괄등록_NDJSON() throws Exception {
+        // Given
+        String body = """
+                {"title": "일괄1", "author": "김작가", "publishedDate": "2024-01-01", "tags": ["소설", "문학"]}
+                {"title": "일괄2", "author": "이작가"}
+                {"title": "일괄3", "author": "이작가", "publishedDate": "2024-02-01", "tags": ["소설"]}
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/api/books/import")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.tagLinks").value(3))
+                .andExpect(jsonPath("$.skipped").value(1))
+                .andExpect(jsonPath("$.errors[0]").value("2번째 줄 : 도서 출판일을 입력하세요"));
+
+        assertThat(bookRepository.findByTitleContainingAndIdGreaterThanOrderByIdAsc("일괄", 0L, Limit.of(10))).hasSize(2);
+    }
+
+    @Test
+    void 전체도서내보내기_NDJSON() throws Exception {
+        // Given
+        tag1 = tagRepository.save(new Tag("소설"));
+        tag2 = tagRepository.save(new Tag("문학"));
+        bookTagRepository.save(new BookTag(savedBook1, tag1));
+        bookTagRepository.save(new BookTag(savedBook1, tag2));
+
+        // When
+        String body = mockMvc.perform(get("/api/books/export")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // Then
+        List<JsonNode> lines = body.lines().map(line -> {
+            try {
+                return objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }).toList();
+        JsonNode book1 = lines.stream().filter(line -> line.get("id").asLong() == savedBook1.getId()).findFirst().orElseThrow();
+        JsonNode book2 = lines.stream().filter(line -> line.get("id").asLong() == savedBook2.getId()).findFirst().orElseThrow();
+        assertThat(book1.get("title").asText()).isEqualTo("ABC");
+        assertThat(book1.get("tags")).hasSize(2);
+        assertThat(book1.get("borrowed").asBoolean()).isFalse();
+        assertThat(book2.get("tags")).isEmpty();
     }
 
     @Test
@@ -207,6 +427,24 @@ public class BookControllerTest {
                 .andExpect(jsonPath("$.tagSet.length()").value(2));
     }
 
+    @Test
+    void 태그추가_기존태그_요청내중복() throws Exception {
+        // Given
+        Long bookId = savedBook1.getId();
+        tagRepository.save(new Tag("소설"));
+
+        // When & Then
+        mockMvc.perform(post("/api/books/" + bookId + "/tag")
+                        .param("tag", "소설", "문학", "소설")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.tagSet.length()").value(2));
+
+        assertThat(tagRepository.findByNameIn(List.of("소설", "문학"))).hasSize(2);
+        assertThat(bookTagRepository.findTagsByBookId(bookId)).hasSize(2);
+    }
+
     @Test
     void 태그별_도서필터링() throws Exception {
         // Given
@@ -215,6 +453,7 @@ public class BookControllerTest {
         bookTagRepository.save(new BookTag(savedBook1, tag1));
         bookTagRepository.save(new BookTag(savedBook1, tag2));
         bookTagRepository.save(new BookTag(savedBook2, tag1));
+        rebuildIndexes();
 
         List<String> tags = List.of("소설", "문학");
 
@@ -224,7 +463,83 @@ public class BookControllerTest {
                         .param("tag", tags.toArray(new String[0]))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].title").value("ABC"));
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("ABC"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void 태그별_도서필터링_대소문자무시() throws Exception {
+        // Given
+        tag1 = tagRepository.save(new Tag("fantasy"));
+        bookTagRepository.save(new BookTag(savedBook1, tag1));
+        rebuildIndexes();
+
+        // When & Then
+        mockMvc.perform(get("/api/books/tag")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .param("tag", "FANTASY", "Fantasy")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("ABC"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void 태그별_도서수조회() throws Exception {
+        // Given
+        tag1 = tagRepository.save(new Tag("소설"));
+        tag2 = tagRepository.save(new Tag("문학"));
+        Tag tag3 = tagRepository.save(new Tag("한국"));
+        bookTagRepository.save(new BookTag(savedBook1, tag1));
+        bookTagRepository.save(new BookTag(savedBook1, tag2));
+        bookTagRepository.save(new BookTag(savedBook2, tag1));
+        bookTagRepository.save(new BookTag(savedBook2, tag2));
+        bookTagRepository.save(new BookTag(savedBook2, tag3));
+        rebuildIndexes();
+
+        // When & Then
+        mockMvc.perform(get("/api/books/tag/facets")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .param("tag", "소설")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].tag").value("문학"))
+                .andExpect(jsonPath("$[0].count").value(2))
+                .andExpect(jsonPath("$[1].tag").value("한국"))
+                .andExpect(jsonPath("$[1].count").value(1));
+    }
+
+    @Test
+    void 통합검색_제목_태그_출판일() throws Exception {
+        // Given
+        tag1 = tagRepository.save(new Tag("소설"));
+        bookTagRepository.save(new BookTag(savedBook1, tag1));
+        bookTagRepository.save(new BookTag(savedBook2, tag1));
+        rebuildIndexes();
+
+        // When & Then
+        mockMvc.perform(get("/api/books/search")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .param("title", "A")
+                        .param("tag", "소설")
+                        .param("from", "2025-01-01")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("ABC"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void 통합검색_조건없음() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/books/search")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .param("title", " ")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
     }
 }
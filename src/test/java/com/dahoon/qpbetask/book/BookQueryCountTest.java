@@ -0,0 +1,146 @@
+package com.dahoon.qpbetask.book;
+
+import com.dahoon.qpbetask.book.entity.Book;
+import com.dahoon.qpbetask.book.entity.BookTag;
+import com.dahoon.qpbetask.book.entity.Tag;
+import com.dahoon.qpbetask.book.repository.BookRepository;
+import com.dahoon.qpbetask.book.repository.BookTagRepository;
+import com.dahoon.qpbetask.book.repository.TagRepository;
+import com.dahoon.qpbetask.user.User;
+import com.dahoon.qpbetask.user.UserRepository;
+import com.dahoon.qpbetask.user.component.JwtTokenProvider;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 목록/조회 API 마다 실행되는 SQL 문 수가 도서/태그 수와 관계없이 고정되어 있는지 확인 (N+1 회귀 방지)
+// 도서 5권에 태그 3개씩, 픽스처 저장 후 영속성 컨텍스트를 비워 실제로 DB 에서 읽게 함
+// 캐시에 이미 있으면 문장 수가 더 적어지므로 상한만 검사
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"book.search.index.enabled=false", "book.search.chosung.enabled=false", "book.tag.index.enabled=false",
+                "spring.jpa.properties.hibernate.generate_statistics=true"})
+@AutoConfigureMockMvc
+@Transactional
+public class BookQueryCountTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookTagRepository bookTagRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Book> books = new ArrayList<>();
+    private Statistics statistics;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        List<Tag> tags = List.of(
+                tagRepository.save(new Tag("쿼리수_소설")),
+                tagRepository.save(new Tag("쿼리수_문학")),
+                tagRepository.save(new Tag("쿼리수_한국")));
+        for (int i = 0; i < 5; i++) {
+            Book book = bookRepository.save(Book.builder()
+                    .title("쿼리수 도서" + i)
+                    .author("쿼리수 저자")
+                    .publishedDate(LocalDate.of(2024, 1, 1 + i))
+                    .build());
+            tags.forEach(tag -> bookTagRepository.save(new BookTag(book, tag)));
+            books.add(book);
+        }
+
+        User user = userRepository.save(User.builder()
+                .username("쿼리수")
+                .password("abc@123")
+                .build());
+        accessToken = jwtTokenProvider.generateToken(user.getUsername()).getAccessToken();
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 도서목록_페이지() throws Exception {
+        // 목록 1 + 태그 1
+        assertThat(countStatements(get("/api/books").param("sort", "date"))).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void 도서목록_커서조회() throws Exception {
+        // 목록 1 + 태그 1
+        assertThat(countStatements(get("/api/books/scroll").param("sort", "date").param("size", "5"))).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void 도서단건조회() throws Exception {
+        // 도서 + 태그 fetch join 1
+        assertThat(countStatements(get("/api/books/" + books.get(0).getId()))).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void 여러도서조회() throws Exception {
+        // 도서 + 태그 fetch join 1
+        String[] ids = books.stream().map(book -> String.valueOf(book.getId())).toArray(String[]::new);
+        assertThat(countStatements(get("/api/books/batch").param("ids", ids))).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void 제목검색() throws Exception {
+        // 검색 1 + 태그 1
+        assertThat(countStatements(get("/api/books/title/쿼리수").param("mode", "LIKE"))).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void 저자검색() throws Exception {
+        // 검색 1 + 태그 1
+        assertThat(countStatements(get("/api/books/author/쿼리수").param("mode", "LIKE"))).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void 태그필터링() throws Exception {
+        // 태그 집계 1 + 도서 + 태그 fetch join 1
+        assertThat(countStatements(get("/api/books/tag").param("tag", "쿼리수_소설", "쿼리수_문학"))).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void 통합검색() throws Exception {
+        // 조건 검색 1 + 도서 + 태그 fetch join 1
+        assertThat(countStatements(get("/api/books/search").param("author", "쿼리수").param("tag", "쿼리수_한국")))
+                .isLessThanOrEqualTo(2);
+    }
+
+    private long countStatements(MockHttpServletRequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request.header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,157 @@
+package com.dahoon.qpbetask.book;
+
+import com.dahoon.qpbetask.book.entity.Book;
+import com.dahoon.qpbetask.book.repository.BookRepository;
+import com.dahoon.qpbetask.book.search.BookSearchMode;
+import com.dahoon.qpbetask.common.cache.TwoLevelCacheManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 캐시 미스 시 동시에 들어온 요청이 DB 를 한 번만 조회하는지 확인 (트랜잭션 롤백 없이 실제 커밋된 데이터 사용)
+@SpringBootTest
+class BookServiceCacheTest {
+
+    private static final int CONCURRENT_REQUESTS = 32;
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private CacheManager cacheManager;
+    @SpyBean
+    private BookRepository bookRepository;
+
+    private Book savedBook;
+
+    @BeforeEach
+    void setUp() {
+        savedBook = bookRepository.save(Book.builder()
+                .title("동시성")
+                .author("강다훈")
+                .publishedDate(LocalDate.of(2025, 2, 10))
+                .build());
+        cacheManager.getCache("book").evict(savedBook.getId());
+        clearInvocations(bookRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.getCache("book").evict(savedBook.getId());
+        bookRepository.deleteById(savedBook.getId());
+    }
+
+    @Test
+    void 캐시미스_동시조회_DB조회한번() throws Exception {
+        // Given
+        Long bookId = savedBook.getId();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BookDto>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return bookService.showBook(bookId);
+            }));
+        }
+        start.countDown();
+
+        // Then
+        for (Future<BookDto> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS).getTitle()).isEqualTo("동시성");
+        }
+        executor.shutdown();
+        verify(bookRepository, times(1)).findWithTagsById(bookId);
+    }
+
+    @Test
+    void L1비운후_Redis에서_도서조회() {
+        // Given
+        Long bookId = savedBook.getId();
+        bookService.showBook(bookId);
+
+        // When - L1 만 비워 Redis(L2) 에 저장된 값을 역직렬화
+        ((TwoLevelCacheManager) cacheManager).clearLocal("book");
+        BookDto result = bookService.showBook(bookId);
+
+        // Then
+        assertThat(result.getTitle()).isEqualTo("동시성");
+        verify(bookRepository, times(1)).findWithTagsById(bookId);
+    }
+
+    @Test
+    void 제목검색캐시_도서삭제후_제외() {
+        // Given
+        bookService.findBookByTitle("동시성", BookSearchMode.LIKE, null, null);
+        assertThat(bookService.findBookByTitle("동시성", BookSearchMode.LIKE, null, null).content())
+                .extracting(BookDto::getId)
+                .contains(savedBook.getId());
+
+        // When
+        bookService.deleteBook(savedBook.getId());
+
+        // Then - 삭제 커밋 후 books 세대 번호가 바뀌어 이전 검색 결과 캐시를 쓰지 않음
+        assertThat(bookService.findBookByTitle("동시성", BookSearchMode.LIKE, null, null).content())
+                .extracting(BookDto::getId)
+                .doesNotContain(savedBook.getId());
+    }
+
+    @Test
+    void 없는도서_반복조회_DB조회한번() {
+        // Given
+        Long missingId = savedBook.getId() + 1_000_000;
+        cacheManager.getCache("book").evict(missingId);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> bookService.showBook(missingId))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessage("해당 ID의 도서가 없습니다.");
+        }
+
+        // Then
+        verify(bookRepository, times(1)).findWithTagsById(missingId);
+        cacheManager.getCache("book").evict(missingId);
+    }
+
+    @Test
+    void 없는도서_포함_일괄조회_반복시_DB조회한번() {
+        // Given
+        Long bookId = savedBook.getId();
+        Long missingId = bookId + 1_000_000;
+        cacheManager.getCache("book").evict(missingId);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThat(bookService.showBooks(List.of(bookId, missingId)))
+                    .extracting(BookDto::getId)
+                    .containsExactly(bookId);
+        }
+
+        // Then - 없는 ID 도 캐싱되어 두 번째 조회부터는 IN 쿼리를 하지 않음
+        verify(bookRepository, times(1)).findAllWithTagsByIdIn(anyList());
+        cacheManager.getCache("book").evict(missingId);
+    }
+}
@@ -0,0 +1,100 @@
+package com.dahoon.qpbetask.book.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private List<BookImportRecord> readAll(BookImportReader reader) throws IOException {
+        List<BookImportRecord> records = new ArrayList<>();
+        BookImportRecord record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    private BookImportReader reader(String body, BookImportFormat format) {
+        return new BookImportReader(new BufferedReader(new StringReader(body)), format, objectMapper);
+    }
+
+    @Test
+    void NDJSON_잘못된줄_건너뜀() throws IOException {
+        // Given
+        String body = """
+                {"title": "한강", "author": "김작가", "publishedDate": "2024-01-01", "tags": ["소설", " 소설 ", ""]}
+                {"title": "제목만"
+
+                {"title": "", "author": "이작가", "publishedDate": "2024-01-01"}
+                {"title": "바다", "author": "이작가", "publishedDate": "2023-05-03"}
+                """;
+        BookImportReader reader = reader(body, BookImportFormat.NDJSON);
+
+        // When
+        List<BookImportRecord> records = readAll(reader);
+
+        // Then
+        assertThat(records).containsExactly(
+                new BookImportRecord("한강", "김작가", LocalDate.of(2024, 1, 1), List.of("소설")),
+                new BookImportRecord("바다", "이작가", LocalDate.of(2023, 5, 3), List.of()));
+        assertThat(reader.getSkipped()).isEqualTo(2);
+        assertThat(reader.getErrors()).containsExactly("2번째 줄 : 잘못된 JSON 입니다.", "4번째 줄 : 도서 제목을 입력하세요");
+    }
+
+    @Test
+    void 내보내기결과_다시등록() throws IOException {
+        // Given
+        String body = objectMapper.writeValueAsString(new BookExportRecord(7L, "한강", "김작가", LocalDate.of(1969, 12, 31),
+                List.of("소설", "문학"), true)) + "\n";
+        BookImportReader reader = reader(body, BookImportFormat.NDJSON);
+
+        // When
+        List<BookImportRecord> records = readAll(reader);
+
+        // Then
+        assertThat(records).containsExactly(
+                new BookImportRecord("한강", "김작가", LocalDate.of(1969, 12, 31), List.of("소설", "문학")));
+        assertThat(reader.getErrors()).isEmpty();
+    }
+
+    @Test
+    void CSV_헤더순서_따옴표() throws IOException {
+        // Given
+        String body = """
+                author,title,publishedDate,tags
+                김작가,"한강, 그리고 ""바다""\",2024-01-01,소설|문학
+                이작가,바다,2024-13-01,
+                """;
+        BookImportReader reader = reader(body, BookImportFormat.CSV);
+
+        // When
+        List<BookImportRecord> records = readAll(reader);
+
+        // Then
+        assertThat(records).containsExactly(
+                new BookImportRecord("한강, 그리고 \"바다\"", "김작가", LocalDate.of(2024, 1, 1), List.of("소설", "문학")));
+        assertThat(reader.getErrors()).containsExactly("3번째 줄 : 출판일 형식이 잘못되었습니다. (yyyy-MM-dd)");
+    }
+
+    @Test
+    void CSV_헤더없음() {
+        // Given
+        BookImportReader reader = reader("한강,김작가,2024-01-01\n", BookImportFormat.CSV);
+
+        // When & Then
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.dahoon.qpbetask.book.bulk;
+
+import com.dahoon.qpbetask.book.repository.BookJdbcRepository;
+import com.dahoon.qpbetask.book.repository.BookTagJdbcRepository;
+import com.dahoon.qpbetask.book.repository.TagRepository;
+import com.dahoon.qpbetask.book.search.BookSearchIndexSynchronizer;
+import com.dahoon.qpbetask.common.cache.CacheGenerations;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookImportServiceTest {
+
+    private static final String BODY = """
+            {"title": "한강", "author": "김작가", "publishedDate": "2024-01-01"}
+            {"title": "바다", "author": "이작가", "publishedDate": "2024-02-01"}
+            """;
+
+    private final BookJdbcRepository bookJdbcRepository = mock(BookJdbcRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final BookSearchIndexSynchronizer bookSearchIndexSynchronizer = mock(BookSearchIndexSynchronizer.class);
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(bookJdbcRepository.insertBooks(anyList(), anyInt())).thenReturn(new long[]{1L, 2L});
+    }
+
+    private BookImportService service(int incrementalIndexLimit) {
+        return new BookImportService(bookJdbcRepository,
+                mock(BookTagJdbcRepository.class),
+                mock(TagRepository.class),
+                transactionTemplate,
+                mock(CacheGenerations.class),
+                bookSearchIndexSynchronizer,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                500, 5000, incrementalIndexLimit);
+    }
+
+    private BookImportResult importBody(BookImportService service) {
+        return service.importBooks(new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)), BookImportFormat.NDJSON);
+    }
+
+    @Test
+    void 적은건수_건별색인반영() {
+        // When
+        importBody(service(10));
+
+        // Then
+        verify(bookSearchIndexSynchronizer).bookAdded(1L, "한강", "김작가");
+        verify(bookSearchIndexSynchronizer).bookAdded(2L, "바다", "이작가");
+        verify(bookSearchIndexSynchronizer, never()).rebuildAll();
+    }
+
+    @Test
+    void 한도초과_전체재생성() {
+        // When
+        importBody(service(1));
+
+        // Then
+        verify(bookSearchIndexSynchronizer).rebuildAll();
+        verify(bookSearchIndexSynchronizer, never()).bookAdded(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void 색인반영실패_등록결과는반환() {
+        // Given
+        doThrow(new IllegalStateException("Redis 연결 실패"))
+                .when(bookSearchIndexSynchronizer).bookAdded(anyLong(), anyString(), anyString());
+
+        // When
+        BookImportResult result = importBody(service(10));
+
+        // Then
+        assertThat(result.imported()).isEqualTo(2);
+    }
+}
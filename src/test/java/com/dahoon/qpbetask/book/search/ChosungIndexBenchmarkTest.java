@@ -0,0 +1,93 @@
+package com.dahoon.qpbetask.book.search;
+
+import com.dahoon.qpbetask.book.repository.BookRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 도서 100만 권 기준 초성 색인 메모리 사용량과 초성 2 ~ 4 글자 검색(첫 페이지 20권) 지연시간
+// 오래 걸리므로 BENCHMARK=true 일 때만 실행 : BENCHMARK=true gradle test --tests '*ChosungIndexBenchmarkTest'
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ChosungIndexBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChosungIndexBenchmarkTest.class);
+    private static final int BOOKS = 1_000_000;
+    private static final int AUTHORS = 50_000;
+    private static final int SYLLABLES = 2_000;
+    private static final int QUERIES = 1_000;
+
+    @Test
+    void 도서100만권_초성검색() {
+        // Given
+        BookRepository bookRepository = mock(BookRepository.class);
+        when(bookRepository.findSearchRowsAfter(anyLong(), any())).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            int batch = invocation.<Pageable>getArgument(1).getPageSize();
+            List<BookSearchRow> rows = new ArrayList<>();
+            for (long id = lastId + 1; id <= Math.min(BOOKS, lastId + batch); id++) {
+                Random random = new Random(id);
+                rows.add(new BookSearchRow(id, text(random, 2 + random.nextInt(3)) + " " + text(random, 2 + random.nextInt(4)),
+                        text(new Random(random.nextInt(AUTHORS)), 3)));
+            }
+            return rows;
+        });
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        ChosungIndex index = new ChosungIndex(bookRepository, true);
+        index.rebuild();
+        System.gc();
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        Random random = new Random(42);
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = Chosung.of(text(random, 2 + random.nextInt(3)));
+        }
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            run(index, queries);
+        }
+        long[] nanos = run(index, queries);
+
+        // Then
+        Arrays.sort(nanos);
+        log.info("초성 색인 힙 증가 약 {}MB, 검색 p50 {}us, p99 {}us", (heapAfter - heapBefore) / 1024 / 1024,
+                nanos[QUERIES / 2] / 1_000, nanos[QUERIES * 99 / 100] / 1_000);
+        assertThat(index.search(BookSearchIndex.Field.TITLE, "ㄱ", 0, 20).orElseThrow()).hasSize(20);
+    }
+
+    private long[] run(ChosungIndex index, String[] queries) {
+        long[] nanos = new long[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            long start = System.nanoTime();
+            index.search(BookSearchIndex.Field.TITLE, queries[i], 0, 21);
+            nanos[i] = System.nanoTime() - start;
+        }
+        return nanos;
+    }
+
+    // 자주 쓰이는 음절 SYLLABLES 개 중에서 고른 한글 문자열
+    private static String text(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('가' + random.nextInt(SYLLABLES) * 5));
+        }
+        return text.toString();
+    }
+}
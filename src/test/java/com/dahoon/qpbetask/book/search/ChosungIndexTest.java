@@ -0,0 +1,76 @@
+package com.dahoon.qpbetask.book.search;
+
+import com.dahoon.qpbetask.book.repository.BookRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChosungIndexTest {
+
+    private ChosungIndex build(List<BookSearchRow> rows) {
+        BookRepository bookRepository = mock(BookRepository.class);
+        when(bookRepository.findSearchRowsAfter(anyLong(), any())).thenReturn(rows);
+        ChosungIndex index = new ChosungIndex(bookRepository, true);
+        index.rebuild();
+        return index;
+    }
+
+    @Test
+    void 초성변환() {
+        assertThat(Chosung.of("한강도서")).isEqualTo("ㅎㄱㄷㅅ");
+        assertThat(Chosung.of("한강 도서")).isEqualTo("ㅎㄱㄷㅅ");
+        assertThat(Chosung.of("까치 Java 2판")).isEqualTo("ㄲㅊjava2ㅍ");
+        assertThat(Chosung.of("한ㄱ")).isEqualTo("ㅎㄱ");
+    }
+
+    @Test
+    void 초성검색_ID순_커서() {
+        // Given
+        ChosungIndex index = build(List.of(
+                new BookSearchRow(1L, "한강도서", "김작가"),
+                new BookSearchRow(2L, "해가 지는 도시", "이작가"),
+                new BookSearchRow(3L, "자바의 정석", "남궁성"),
+                new BookSearchRow(4L, "새 한강 도서관", "김작가")));
+
+        // When & Then
+        assertThat(index.search(BookSearchIndex.Field.TITLE, "ㅎㄱㄷ", 0, 10).orElseThrow()).containsExactly(1L, 4L);
+        assertThat(index.search(BookSearchIndex.Field.TITLE, "ㅎㄱ ㄷ", 1, 10).orElseThrow()).containsExactly(4L);
+        assertThat(index.search(BookSearchIndex.Field.TITLE, "ㄷ", 0, 2).orElseThrow()).containsExactly(1L, 2L);
+        assertThat(index.search(BookSearchIndex.Field.AUTHOR, "ㄱㅈ", 0, 10).orElseThrow()).containsExactly(1L, 4L);
+        assertThat(index.search(BookSearchIndex.Field.AUTHOR, "ㄴㄱㅅ", 0, 10).orElseThrow()).containsExactly(3L);
+    }
+
+    @Test
+    void 등록_수정_삭제_반영() {
+        // Given
+        ChosungIndex index = build(List.of(
+                new BookSearchRow(1L, "한강도서", "김작가"),
+                new BookSearchRow(3L, "자바의 정석", "남궁성")));
+
+        // When
+        index.add(5L, "한국 근대사", "박작가");
+        index.add(2L, "한글과 구름", "최작가");
+        index.add(3L, "자바 한글 도감", "남궁성");
+        index.remove(1L);
+
+        // Then
+        assertThat(index.search(BookSearchIndex.Field.TITLE, "ㅎㄱ", 0, 10).orElseThrow()).containsExactly(2L, 3L, 5L);
+        assertThat(index.search(BookSearchIndex.Field.TITLE, "ㅈㅅ", 0, 10).orElseThrow()).isEmpty();
+    }
+
+    @Test
+    void 색인생성전_empty() {
+        // Given
+        ChosungIndex index = new ChosungIndex(mock(BookRepository.class), true);
+
+        // When & Then
+        assertThat(index.isAvailable()).isFalse();
+        assertThat(index.search(BookSearchIndex.Field.TITLE, "ㅎㄱ", 0, 10)).isEmpty();
+    }
+}
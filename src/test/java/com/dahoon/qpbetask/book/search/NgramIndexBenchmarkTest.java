@@ -0,0 +1,100 @@
+package com.dahoon.qpbetask.book.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 도서 100만 권 기준 색인 후보 검색과 메모리 전체 스캔(String.contains) 비교
+// 색인 자체의 마이크로벤치마크로, DB 의 LIKE '%x%' 쿼리나 엔드포인트 지연 시간(네트워크, 후보 확인 쿼리)은 포함하지 않음
+// 오래 걸리므로 BENCHMARK=true 일 때만 실행 : BENCHMARK=true gradle test --tests '*NgramIndexBenchmarkTest'
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class NgramIndexBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NgramIndexBenchmarkTest.class);
+    private static final int BOOKS = 1_000_000;
+    // 자주 쓰이는 음절 300개로 2~4 음절 단어를 만들어 제목 구성
+    private static final int SYLLABLES = 300;
+    private static final int QUERIES = 100;
+
+    @Test
+    void 도서100만권_제목검색_지연시간비교() {
+        // Given
+        Random random = new Random(42);
+        String[] titles = new String[BOOKS];
+        for (int i = 0; i < BOOKS; i++) {
+            titles[i] = word(random) + " " + word(random) + " " + word(random);
+        }
+        // 실제 제목의 일부(2~4 글자)를 검색어로 사용
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            String title = titles[random.nextInt(BOOKS)];
+            int length = 2 + random.nextInt(3);
+            int start = random.nextInt(title.length() - length + 1);
+            queries.add(title.substring(start, start + length));
+        }
+
+        System.gc();
+        long usedBefore = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        long buildStart = System.nanoTime();
+        NgramIndex index = new NgramIndex();
+        for (int i = 0; i < BOOKS; i++) {
+            index.add(i + 1, titles[i]);
+        }
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+        System.gc();
+        long usedAfter = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            runIndex(index, queries);
+            runScan(titles, queries);
+        }
+        long indexNanos = runIndex(index, queries);
+        long scanNanos = runScan(titles, queries);
+
+        // Then
+        log.info("색인 생성 {}ms, 키 {}개, posting {}MB, 힙 증가 약 {}MB", buildMillis, index.keyCount(),
+                index.postingBytes() / 1024 / 1024, (usedAfter - usedBefore) / 1024 / 1024);
+        log.info("검색어당 평균 - 색인 후보 검색 {}us, 전체 스캔 {}us", indexNanos / QUERIES / 1_000,
+                scanNanos / QUERIES / 1_000);
+        assertThat(indexNanos).isLessThan(scanNanos);
+    }
+
+    private long runIndex(NgramIndex index, List<String> queries) {
+        long start = System.nanoTime();
+        for (String query : queries) {
+            assertThat(index.search(query)).isNotNull();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long runScan(String[] titles, List<String> queries) {
+        long start = System.nanoTime();
+        for (String query : queries) {
+            int count = 0;
+            for (String title : titles) {
+                if (title.contains(query)) {
+                    count++;
+                }
+            }
+            assertThat(count).isPositive();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            word.append((char) (0xAC00 + random.nextInt(SYLLABLES) * 28));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.dahoon.qpbetask.book.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    @Test
+    void 부분문자열_후보검색() {
+        // Given
+        NgramIndex index = new NgramIndex();
+        index.add(1, "채식주의자");
+        index.add(2, "소년이 온다");
+        index.add(3, "Effective Java");
+        index.add(4, "주의사항");
+
+        // When & Then
+        assertThat(index.search("주의")).containsExactly(1, 4);
+        assertThat(index.search("이 온")).containsExactly(2);
+        assertThat(index.search("java")).containsExactly(3);
+        assertThat(index.search("파이썬")).isEmpty();
+        assertThat(index.search("주")).isNull();
+    }
+
+    @Test
+    void 수정_삭제_반영() {
+        // Given
+        NgramIndex index = new NgramIndex();
+        index.add(1, "ABC");
+        index.add(2, "ABD");
+
+        // When
+        index.remove(1, "ABC");
+        index.add(1, "XYZ");
+
+        // Then
+        assertThat(index.search("AB")).containsExactly(2);
+        assertThat(index.search("XY")).containsExactly(1);
+    }
+}
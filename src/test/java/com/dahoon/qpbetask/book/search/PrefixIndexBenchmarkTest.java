@@ -0,0 +1,78 @@
+package com.dahoon.qpbetask.book.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 제목 100만 개 기준 1~3 글자 접두사 자동완성 지연시간 (p50, p99)
+// 오래 걸리므로 BENCHMARK=true 일 때만 실행 : BENCHMARK=true gradle test --tests '*PrefixIndexBenchmarkTest'
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class PrefixIndexBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PrefixIndexBenchmarkTest.class);
+    private static final int TITLES = 1_000_000;
+    private static final int SYLLABLES = 300;
+    private static final int QUERIES = 10_000;
+
+    @Test
+    void 제목100만개_접두사자동완성_지연시간() {
+        // Given
+        Random random = new Random(42);
+        Map<String, PrefixIndex.Term> terms = new HashMap<>();
+        String[] titles = new String[TITLES];
+        for (int i = 0; i < TITLES; i++) {
+            titles[i] = word(random) + " " + word(random);
+            terms.computeIfAbsent(titles[i], key -> new PrefixIndex.Term(key, 0)).weight += 1 + random.nextInt(100);
+        }
+        long buildStart = System.nanoTime();
+        PrefixIndex index = new PrefixIndex(terms);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String title = titles[random.nextInt(TITLES)];
+            queries[i] = title.substring(0, 1 + random.nextInt(3));
+        }
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            run(index, queries);
+        }
+        long[] nanos = run(index, queries);
+
+        // Then
+        Arrays.sort(nanos);
+        long p50 = nanos[QUERIES / 2];
+        long p99 = nanos[QUERIES * 99 / 100];
+        log.info("자동완성 색인 생성 {}ms, 키 {}개, 상위 10개 p50 {}us, p99 {}us", buildMillis, index.size(),
+                p50 / 1_000, p99 / 1_000);
+        assertThat(p99).isLessThan(1_000_000);
+    }
+
+    private long[] run(PrefixIndex index, String[] queries) {
+        long[] nanos = new long[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            long start = System.nanoTime();
+            assertThat(index.suggest(queries[i], 10)).isNotEmpty();
+            nanos[i] = System.nanoTime() - start;
+        }
+        return nanos;
+    }
+
+    private String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            word.append((char) (0xAC00 + random.nextInt(SYLLABLES) * 28));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package com.dahoon.qpbetask.book.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+    private PrefixIndex build(Object... textAndWeights) {
+        Map<String, PrefixIndex.Term> terms = new HashMap<>();
+        for (int i = 0; i < textAndWeights.length; i += 2) {
+            String text = (String) textAndWeights[i];
+            terms.put(PrefixIndex.normalize(text), new PrefixIndex.Term(text, (Integer) textAndWeights[i + 1]));
+        }
+        return new PrefixIndex(terms);
+    }
+
+    @Test
+    void 접두사_도서수순_제안() {
+        // Given
+        PrefixIndex index = build("한강", 3, "한강도서", 5, "한국사", 1, "Harry Potter", 2, "하루", 9);
+
+        // When & Then
+        assertThat(index.suggest("한", 10)).containsExactly(
+                new Suggestion("한강도서", 5), new Suggestion("한강", 3), new Suggestion("한국사", 1));
+        assertThat(index.suggest("한강", 1)).containsExactly(new Suggestion("한강도서", 5));
+        assertThat(index.suggest("harry", 10)).containsExactly(new Suggestion("Harry Potter", 2));
+        assertThat(index.suggest("없음", 10)).isEmpty();
+    }
+
+    @Test
+    void 변경_즉시반영() {
+        // Given
+        PrefixIndex index = build("한강", 3, "한국사", 1);
+
+        // When
+        index.add("한국사", 5);
+        index.add("한강", -3);
+        index.add("한글", 2);
+
+        // Then
+        assertThat(index.suggest("한", 10)).containsExactly(new Suggestion("한국사", 6), new Suggestion("한글", 2));
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void 동점은_이름순() {
+        // Given
+        PrefixIndex index = build("abc", 1, "abd", 1, "abb", 1);
+
+        // When & Then
+        assertThat(index.suggest("ab", 2)).extracting(Suggestion::text).isEqualTo(List.of("abb", "abc"));
+    }
+}
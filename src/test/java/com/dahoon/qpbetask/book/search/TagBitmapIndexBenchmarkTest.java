@@ -0,0 +1,99 @@
+package com.dahoon.qpbetask.book.search;
+
+import com.dahoon.qpbetask.book.repository.BookTagRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 도서 100만 권, 태그 1000개 기준 5개 태그 교집합 + 첫 페이지, 태그 1개 필터의 태그별 도서 수 조회 지연시간
+// 오래 걸리므로 BENCHMARK=true 일 때만 실행 : BENCHMARK=true gradle test --tests '*TagBitmapIndexBenchmarkTest'
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class TagBitmapIndexBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TagBitmapIndexBenchmarkTest.class);
+    private static final int BOOKS = 1_000_000;
+    private static final int TAGS = 1_000;
+    private static final int TAGS_PER_BOOK = 8;
+    private static final int QUERIES = 1_000;
+    private static final int FACET_QUERIES = 100;
+
+    @Test
+    void 도서100만권_태그5개_교집합() {
+        // Given
+        // 앞쪽 태그일수록 많이 쓰이도록 분포를 치우침, book_tag 행은 요청한 배치만큼 만들어 반환
+        long totalRows = (long) BOOKS * TAGS_PER_BOOK;
+        BookTagRepository bookTagRepository = mock(BookTagRepository.class);
+        when(bookTagRepository.findTagRowsAfter(anyLong(), any())).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            int batchSize = invocation.<Pageable>getArgument(1).getPageSize();
+            Random rowRandom = new Random(lastId);
+            List<BookTagRow> rows = new ArrayList<>(batchSize);
+            for (long rowId = lastId + 1; rowId <= Math.min(totalRows, lastId + batchSize); rowId++) {
+                int tag = (int) Math.min(TAGS - 1, Math.abs(rowRandom.nextGaussian()) * TAGS / 20);
+                rows.add(new BookTagRow(rowId, (rowId - 1) / TAGS_PER_BOOK + 1, "태그" + tag));
+            }
+            return rows;
+        });
+
+        long buildStart = System.nanoTime();
+        TagBitmapIndex index = new TagBitmapIndex(bookTagRepository, true);
+        index.rebuild();
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        Random random = new Random(42);
+        List<List<String>> queries = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            List<String> tags = new ArrayList<>();
+            while (tags.size() < 5) {
+                String tag = "태그" + random.nextInt(10);
+                if (!tags.contains(tag)) {
+                    tags.add(tag);
+                }
+            }
+            queries.add(tags);
+        }
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            run(index, queries);
+            runFacets(index, queries);
+        }
+        long nanos = run(index, queries);
+        long facetNanos = runFacets(index, queries);
+
+        // Then
+        log.info("비트맵 색인 생성 {}ms, 5개 태그 교집합 + 첫 페이지 평균 {}us, 태그별 도서 수 평균 {}us", buildMillis,
+                nanos / QUERIES / 1_000, facetNanos / FACET_QUERIES / 1_000);
+        assertThat(nanos / QUERIES).isLessThan(1_000_000);
+    }
+
+    private long runFacets(TagBitmapIndex index, List<List<String>> queries) {
+        long start = System.nanoTime();
+        for (int i = 0; i < FACET_QUERIES; i++) {
+            assertThat(index.facets(queries.get(i).subList(0, 1)).orElseThrow()).isNotEmpty();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long run(TagBitmapIndex index, List<List<String>> queries) {
+        long start = System.nanoTime();
+        for (List<String> tags : queries) {
+            RoaringBitmap bitmap = index.match(tags).orElseThrow();
+            assertThat(TagBitmapIndex.page(bitmap, 0, 21)).isNotNull();
+        }
+        return System.nanoTime() - start;
+    }
+}
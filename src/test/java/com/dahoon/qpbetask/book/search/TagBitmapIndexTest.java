@@ -0,0 +1,106 @@
+package com.dahoon.qpbetask.book.search;
+
+import com.dahoon.qpbetask.book.repository.BookTagRepository;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TagBitmapIndexTest {
+
+    private TagBitmapIndex build(List<BookTagRow> rows) {
+        BookTagRepository bookTagRepository = mock(BookTagRepository.class);
+        when(bookTagRepository.findTagRowsAfter(anyLong(), any())).thenReturn(rows);
+        TagBitmapIndex index = new TagBitmapIndex(bookTagRepository, true);
+        index.rebuild();
+        return index;
+    }
+
+    @Test
+    void 여러태그_교집합() {
+        // Given
+        TagBitmapIndex index = build(List.of(
+                new BookTagRow(1L, 1L, "소설"),
+                new BookTagRow(2L, 1L, "문학"),
+                new BookTagRow(3L, 2L, "소설"),
+                new BookTagRow(4L, 3L, "소설"),
+                new BookTagRow(5L, 3L, "문학")));
+
+        // When & Then
+        assertThat(index.match(List.of("소설", "문학")).orElseThrow().toArray()).containsExactly(1, 3);
+        assertThat(index.match(List.of("소설")).orElseThrow().toArray()).containsExactly(1, 2, 3);
+        assertThat(index.match(List.of("소설", "없는태그")).orElseThrow().isEmpty()).isTrue();
+    }
+
+    @Test
+    void 태그추가_도서삭제_반영() {
+        // Given
+        TagBitmapIndex index = build(List.of(
+                new BookTagRow(1L, 1L, "소설"),
+                new BookTagRow(2L, 2L, "소설")));
+
+        // When
+        index.addTags(2L, List.of("문학"));
+        index.removeBook(1L, List.of("소설"));
+
+        // Then
+        assertThat(index.match(List.of("소설")).orElseThrow().toArray()).containsExactly(2);
+        assertThat(index.match(List.of("소설", "문학")).orElseThrow().toArray()).containsExactly(2);
+    }
+
+    @Test
+    void 필터결과_태그별_도서수() {
+        // Given
+        TagBitmapIndex index = build(List.of(
+                new BookTagRow(1L, 1L, "소설"),
+                new BookTagRow(2L, 1L, "문학"),
+                new BookTagRow(3L, 2L, "소설"),
+                new BookTagRow(4L, 2L, "문학"),
+                new BookTagRow(5L, 2L, "한국"),
+                new BookTagRow(6L, 3L, "에세이")));
+
+        // When & Then
+        assertThat(index.facets(List.of("소설")).orElseThrow())
+                .containsExactlyInAnyOrder(new TagFacet("문학", 2), new TagFacet("한국", 1));
+        assertThat(index.facets(List.of()).orElseThrow()).hasSize(4);
+        assertThat(index.facets(List.of("없는태그")).orElseThrow()).isEmpty();
+    }
+
+    @Test
+    void 대소문자구분없이_필터링() {
+        // Given
+        TagBitmapIndex index = build(List.of(
+                new BookTagRow(1L, 1L, "Fantasy"),
+                new BookTagRow(2L, 1L, "SF"),
+                new BookTagRow(3L, 2L, "Fantasy")));
+
+        // When
+        index.addTags(3L, List.of("fantasy"));
+        index.removeBook(2L, List.of("FANTASY"));
+
+        // Then
+        assertThat(index.match(List.of("FANTASY")).orElseThrow().toArray()).containsExactly(1, 3);
+        assertThat(index.match(List.of("fantasy", "sf")).orElseThrow().toArray()).containsExactly(1);
+        assertThat(index.facets(List.of("fantasy")).orElseThrow()).containsExactly(new TagFacet("SF", 1));
+        assertThat(index.facets(List.of()).orElseThrow())
+                .containsExactlyInAnyOrder(new TagFacet("Fantasy", 2), new TagFacet("SF", 1));
+    }
+
+    @Test
+    void 커서이후_페이지() {
+        // Given
+        RoaringBitmap bitmap = RoaringBitmap.bitmapOf(3, 5, 8, 13, 21);
+
+        // When & Then
+        assertThat(TagBitmapIndex.page(bitmap, 0, 2)).containsExactly(3L, 5L);
+        assertThat(TagBitmapIndex.page(bitmap, 5, 2)).containsExactly(8L, 13L);
+        assertThat(TagBitmapIndex.page(bitmap, 13, 2)).containsExactly(21L);
+        assertThat(TagBitmapIndex.page(bitmap, 21, 2)).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package com.dahoon.qpbetask.common.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CacheGenerationsTest {
+
+    private static final String KEY = "cache:generation:books";
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final CacheGenerations cacheGenerations =
+            new CacheGenerations(redisTemplate, mock(CacheInvalidationPublisher.class), 60_000);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private MockHttpServletRequest newRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return request;
+    }
+
+    private boolean usesPrimary(MockHttpServletRequest request) {
+        return request.getAttributeNames().hasMoreElements();
+    }
+
+    @Test
+    void 증가후_이전번호읽어도_유지() {
+        // Given - INCR 전에 읽은 번호가 INCR 이후에 반영되는 경우
+        when(valueOperations.increment(KEY)).thenReturn(5L);
+        when(valueOperations.get(KEY)).thenReturn("4");
+        cacheGenerations.bump("books");
+
+        // When
+        cacheGenerations.refresh("books");
+
+        // Then
+        assertThat(cacheGenerations.current("books")).isEqualTo(5L);
+    }
+
+    @Test
+    void 다른노드에서_증가한번호_반영() {
+        // Given
+        when(valueOperations.get(KEY)).thenReturn("3");
+        assertThat(cacheGenerations.current("books")).isEqualTo(3L);
+
+        // When
+        when(valueOperations.get(KEY)).thenReturn("4");
+        cacheGenerations.refresh("books");
+
+        // Then
+        assertThat(cacheGenerations.current("books")).isEqualTo(4L);
+    }
+
+    @Test
+    void 세대변경직후_조회요청_프라이머리() {
+        // Given
+        when(valueOperations.get(KEY)).thenReturn("3");
+        MockHttpServletRequest before = newRequest();
+        cacheGenerations.current("books");
+
+        // When - 다른 노드에서 세대를 올린 뒤 이 노드가 새 번호를 읽음
+        when(valueOperations.get(KEY)).thenReturn("4");
+        cacheGenerations.refresh("books");
+        MockHttpServletRequest after = newRequest();
+        cacheGenerations.current("books");
+
+        // Then
+        assertThat(usesPrimary(before)).isFalse();
+        assertThat(usesPrimary(after)).isTrue();
+    }
+
+    @Test
+    void 대기시간지나면_레플리카() {
+        // Given
+        CacheGenerations noWindow = new CacheGenerations(redisTemplate, mock(CacheInvalidationPublisher.class), 0);
+        when(valueOperations.increment(KEY)).thenReturn(5L);
+        noWindow.bump("books");
+
+        // When
+        MockHttpServletRequest request = newRequest();
+        noWindow.current("books");
+
+        // Then
+        assertThat(usesPrimary(request)).isFalse();
+    }
+}
@@ -0,0 +1,107 @@
+package com.dahoon.qpbetask.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKSketchTest {
+
+    @Test
+    void 핫키_상위K_추정() {
+        // Given - 핫 키 10개 각 1000번, 서로 다른 검색어 10만 개 각 1번
+        TopKSketch sketch = new TopKSketch(4_096, 20);
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add("hot-" + (i % 10));
+            for (int j = 0; j < 10; j++) {
+                sketch.add("query-" + random.nextInt(Integer.MAX_VALUE));
+            }
+        }
+
+        // Then
+        List<HotKey> topK = sketch.topK();
+        assertThat(topK).hasSizeLessThanOrEqualTo(20);
+        assertThat(topK.subList(0, 10))
+                .extracting(HotKey::key)
+                .allMatch(key -> key.startsWith("hot-"));
+        assertThat(topK.get(0).count()).isGreaterThanOrEqualTo(1_000);
+    }
+
+    @Test
+    void 추정값은_실제횟수이상() {
+        // Given
+        TopKSketch sketch = new TopKSketch(64, 5);
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            sketch.add("key-" + (i % 50));
+        }
+
+        // Then
+        assertThat(sketch.topK()).allMatch(hotKey -> hotKey.count() >= 10);
+    }
+
+    @Test
+    void 여러스케치_합쳐서_상위K() {
+        // Given - hot 키는 두 스케치에 나눠서, 각 스케치 안에서는 다른 키보다 적게 기록
+        TopKSketch first = new TopKSketch(1_024, 3);
+        TopKSketch second = new TopKSketch(1_024, 3);
+        for (int i = 0; i < 60; i++) {
+            first.add("hot");
+            second.add("hot");
+        }
+        for (int i = 0; i < 100; i++) {
+            first.add("first-only");
+            second.add("second-only");
+        }
+
+        // When
+        List<HotKey> merged = TopKSketch.merge(List.of(first, second), 3);
+
+        // Then
+        assertThat(merged.get(0).key()).isEqualTo("hot");
+        assertThat(merged.get(0).count()).isGreaterThanOrEqualTo(120);
+    }
+
+    @Test
+    void 여러스레드_동시기록() throws Exception {
+        // Given
+        StripedTopKSketch sketch = new StripedTopKSketch(4_096, 20);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When - 스레드마다 핫 키 10개 각 100번, 서로 다른 검색어 1만 개
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            int seed = thread;
+            futures.add(executor.submit(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 1_000; i++) {
+                    sketch.add("hot-" + (i % 10));
+                    for (int j = 0; j < 10; j++) {
+                        sketch.add("query-" + random.nextInt(Integer.MAX_VALUE));
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then - 스레드 8개 기록을 합쳐 핫 키마다 800번 이상
+        List<HotKey> topK = sketch.topK();
+        assertThat(topK.subList(0, 10))
+                .extracting(HotKey::key)
+                .allMatch(key -> key.startsWith("hot-"));
+        assertThat(topK.subList(0, 10)).allMatch(hotKey -> hotKey.count() >= 800);
+    }
+}
@@ -0,0 +1,222 @@
+package com.dahoon.qpbetask.common.cache.codec;
+
+import com.dahoon.qpbetask.book.BookDto;
+import com.dahoon.qpbetask.common.cache.NegativeCacheEntry;
+import com.dahoon.qpbetask.common.pagination.CursorPage;
+import com.dahoon.qpbetask.user.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactRedisSerializerTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactRedisSerializerTest.class);
+    private static final int ITERATIONS = 2_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void 도서_직렬화_역직렬화() {
+        // Given
+        CompactRedisSerializer<BookDto> serializer = new CompactRedisSerializer<>(new BookDtoCodec());
+        BookDto bookDto = new BookDto(1L, "한강도서", "강다훈", LocalDate.of(2025, 2, 10), Set.of("소설", "문학"));
+
+        // When
+        BookDto result = serializer.deserialize(serializer.serialize(bookDto));
+
+        // Then
+        assertThat(result).usingRecursiveComparison().isEqualTo(bookDto);
+    }
+
+    @Test
+    void null_필드_직렬화() {
+        // Given
+        CompactRedisSerializer<BookDto> serializer = new CompactRedisSerializer<>(new BookDtoCodec());
+        BookDto bookDto = new BookDto(null, "제목", null, null, null);
+
+        // When
+        BookDto result = serializer.deserialize(serializer.serialize(bookDto));
+
+        // Then
+        assertThat(result).usingRecursiveComparison().isEqualTo(bookDto);
+    }
+
+    @Test
+    void 출판일_1970년이전_직렬화() {
+        // Given - 1969-12-31 은 epoch day -1
+        CompactRedisSerializer<BookDto> serializer = new CompactRedisSerializer<>(new BookDtoCodec());
+        BookDto lastDayOf1969 = new BookDto(0L, "제목", "강다훈", LocalDate.of(1969, 12, 31), Set.of());
+        BookDto oldBook = new BookDto(2L, "제목", "강다훈", LocalDate.of(1900, 1, 1), Set.of("고전"));
+
+        // When
+        BookDto lastDayResult = serializer.deserialize(serializer.serialize(lastDayOf1969));
+        BookDto oldBookResult = serializer.deserialize(serializer.serialize(oldBook));
+
+        // Then
+        assertThat(lastDayResult).usingRecursiveComparison().isEqualTo(lastDayOf1969);
+        assertThat(oldBookResult).usingRecursiveComparison().isEqualTo(oldBook);
+    }
+
+    @Test
+    void 사용자_직렬화() {
+        // Given
+        CompactRedisSerializer<UserDto> serializer = new CompactRedisSerializer<>(new UserDtoCodec());
+        UserDto user = new UserDto(0L, "testuser", "{bcrypt}$2a$10$abcdefghijklmnopqrstuv");
+        UserDto newUser = new UserDto(null, "newuser", null);
+
+        // When & Then
+        assertThat(serializer.deserialize(serializer.serialize(user))).usingRecursiveComparison().isEqualTo(user);
+        assertThat(serializer.deserialize(serializer.serialize(newUser))).usingRecursiveComparison().isEqualTo(newUser);
+    }
+
+    @Test
+    void 커서페이지_직렬화() {
+        // Given
+        CompactRedisSerializer<CursorPage<BookDto>> serializer =
+                new CompactRedisSerializer<>(new CursorPageCodec<>(new BookDtoCodec()));
+        CursorPage<BookDto> page = new CursorPage<>(
+                List.of(new BookDto(1L, "한강도서", "강다훈", LocalDate.of(2025, 2, 10), Set.of("소설"))),
+                CursorPage.encodeCursor("1"));
+        CursorPage<BookDto> lastPage = new CursorPage<>(List.of(), null);
+
+        // When
+        CursorPage<BookDto> result = serializer.deserialize(serializer.serialize(page));
+        CursorPage<BookDto> lastResult = serializer.deserialize(serializer.serialize(lastPage));
+
+        // Then
+        assertThat(result).usingRecursiveComparison().isEqualTo(page);
+        assertThat(lastResult).usingRecursiveComparison().isEqualTo(lastPage);
+    }
+
+    @Test
+    void 임계값_초과시_압축() {
+        // Given
+        CompactRedisSerializer<List<BookDto>> serializer =
+                new CompactRedisSerializer<>(new ListCodec<>(new BookDtoCodec()));
+        List<BookDto> books = sampleBooks(100);
+
+        // When
+        byte[] bytes = serializer.serialize(books);
+
+        // Then
+        assertThat(bytes[1] & 0x01).isEqualTo(1);
+        assertThat(serializer.deserialize(bytes)).usingRecursiveComparison().isEqualTo(books);
+    }
+
+    @Test
+    void 없는ID_결과_직렬화() {
+        // Given
+        CompactRedisSerializer<BookDto> serializer = new CompactRedisSerializer<>(new BookDtoCodec());
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> raw = (RedisSerializer<Object>) (RedisSerializer<?>) serializer;
+
+        // When
+        Object result = serializer.deserialize(raw.serialize(new NegativeCacheEntry("해당 ID의 도서가 없습니다.")));
+
+        // Then
+        assertThat(result).isEqualTo(new NegativeCacheEntry("해당 ID의 도서가 없습니다."));
+    }
+
+    @Test
+    void 이전_Jackson_값은_캐시미스() {
+        // Given
+        CompactRedisSerializer<BookDto> serializer = new CompactRedisSerializer<>(new BookDtoCodec());
+        byte[] jackson = new Jackson2JsonRedisSerializer<>(objectMapper, BookDto.class)
+                .serialize(new BookDto(1L, "ABC", "강다훈", LocalDate.now(), Set.of()));
+
+        // When & Then
+        assertThat(serializer.deserialize(jackson)).isNull();
+    }
+
+    @Test
+    void 잘린_값_역직렬화_실패() {
+        // Given
+        CompactRedisSerializer<UserDto> serializer = new CompactRedisSerializer<>(new UserDtoCodec());
+        byte[] bytes = serializer.serialize(new UserDto(1L, "testuser", "{bcrypt}$2a$10$abcdefghijklmnopqrstuv"));
+
+        // When & Then
+        byte[] truncated = java.util.Arrays.copyOf(bytes, bytes.length - 5);
+        assertThatThrownBy(() -> serializer.deserialize(truncated))
+                .isInstanceOf(org.springframework.data.redis.serializer.SerializationException.class);
+    }
+
+    // Jackson 직렬화와 항목당 크기, 인코딩/디코딩 시간 비교 (결과는 로그로 출력)
+    @Test
+    void Jackson_대비_크기_및_처리시간_비교() {
+        // Given
+        BookDto book = sampleBooks(1).get(0);
+        List<BookDto> authorSearch = sampleBooks(100);
+
+        RedisSerializer<BookDto> jacksonBook = new Jackson2JsonRedisSerializer<>(objectMapper, BookDto.class);
+        RedisSerializer<Object> jacksonList = new GenericJackson2JsonRedisSerializer(objectMapper);
+        RedisSerializer<BookDto> compactBook = new CompactRedisSerializer<>(new BookDtoCodec());
+        RedisSerializer<List<BookDto>> compactList = new CompactRedisSerializer<>(new ListCodec<>(new BookDtoCodec()));
+
+        // When
+        Result jacksonBookResult = measure(jacksonBook, book);
+        Result compactBookResult = measure(compactBook, book);
+        Result jacksonListResult = measure(jacksonList, authorSearch);
+        Result compactListResult = measure(compactList, authorSearch);
+
+        log.info("도서 1권     - Jackson {} / Compact {}", jacksonBookResult, compactBookResult);
+        log.info("도서 100권   - GenericJackson {} / Compact {}", jacksonListResult, compactListResult);
+
+        // Then
+        assertThat(compactBookResult.bytes()).isLessThan(jacksonBookResult.bytes());
+        assertThat(compactListResult.bytes()).isLessThan(jacksonListResult.bytes() / 3);
+    }
+
+    private record Result(int bytes, double encodeMicros, double decodeMicros) {
+        @Override
+        public String toString() {
+            return String.format("%d bytes, encode %.1fus, decode %.1fus", bytes, encodeMicros, decodeMicros);
+        }
+    }
+
+    private <T> Result measure(RedisSerializer<T> serializer, T value) {
+        byte[] bytes = serializer.serialize(value);
+        // JIT 워밍업
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.serialize(value);
+        }
+        long encodeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.deserialize(bytes);
+        }
+        long decodeNanos = System.nanoTime() - start;
+
+        return new Result(bytes.length, encodeNanos / 1000.0 / ITERATIONS, decodeNanos / 1000.0 / ITERATIONS);
+    }
+
+    private List<BookDto> sampleBooks(int count) {
+        List<BookDto> books = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            books.add(new BookDto((long) i + 1,
+                    "한강도서 시리즈 " + i + "권 - 바람이 머무는 자리",
+                    "강다훈",
+                    LocalDate.of(2020, 1, 1).plusDays(i),
+                    Set.of("소설", "문학", "베스트셀러")));
+        }
+        return books;
+    }
+}
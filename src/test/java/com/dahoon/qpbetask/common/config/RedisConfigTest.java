@@ -0,0 +1,56 @@
+package com.dahoon.qpbetask.common.config;
+
+import com.dahoon.qpbetask.book.BookDto;
+import com.dahoon.qpbetask.common.cache.NegativeCachingTtlFunction;
+import com.dahoon.qpbetask.user.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// L1 을 거치지 않고 Redis(L2) 에 저장되는 형식 그대로 쓰고 읽어 캐시별 설정이 적용되는지 확인
+class RedisConfigTest {
+
+    private final RedisCacheManager redisCacheManager = new RedisConfig().redisCacheManager(
+            mock(RedisConnectionFactory.class), new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @SuppressWarnings("unchecked")
+    private Object roundTrip(String cacheName, Object value) {
+        RedisCache cache = (RedisCache) redisCacheManager.getCache(cacheName);
+        RedisSerializationContext.SerializationPair<Object> pair =
+                (RedisSerializationContext.SerializationPair<Object>) cache.getCacheConfiguration().getValueSerializationPair();
+        return pair.read(pair.write(value));
+    }
+
+    @Test
+    void 도서_사용자캐시_L2왕복_타입유지() {
+        // Given
+        BookDto book = new BookDto(1L, "ABC", "강다훈", LocalDate.of(2025, 2, 10), Set.of("소설"));
+        UserDto user = new UserDto(1L, "강다훈", "{bcrypt}$2a$10$abcdefghijklmnopqrstuv");
+
+        // When & Then
+        assertThat(roundTrip("book", book)).isInstanceOf(BookDto.class)
+                .usingRecursiveComparison().isEqualTo(book);
+        assertThat(roundTrip("user", user)).isInstanceOf(UserDto.class)
+                .usingRecursiveComparison().isEqualTo(user);
+    }
+
+    @Test
+    void 캐시별_TTL설정_적용() {
+        // When
+        RedisCache book = (RedisCache) redisCacheManager.getCache("book");
+
+        // Then
+        assertThat(book.getCacheConfiguration().getTtlFunction()).isInstanceOf(NegativeCachingTtlFunction.class);
+        assertThat(redisCacheManager.getCacheNames()).contains("book", "books", "bookPages", "bookTitlePages", "user");
+    }
+}
@@ -0,0 +1,109 @@
+package com.dahoon.qpbetask.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 프라이머리, 레플리카 대신 H2 메모리 DB 두 개를 띄우고 어느 쪽에서 읽었는지 확인
+class ReplicationRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primary, replica));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    private EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name)
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("create table node (name varchar(20))");
+        template.update("insert into node (name) values (?)", name);
+        return database;
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private String readOnlyNode() {
+        return readOnlyTransaction.execute(status -> currentNode());
+    }
+
+    private String writeNode() {
+        return writeTransaction.execute(status -> currentNode());
+    }
+
+    @Test
+    void 읽기전용트랜잭션_레플리카() {
+        // When & Then
+        assertThat(readOnlyNode()).isEqualTo("replica");
+        assertThat(writeNode()).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void 쓰기한요청_이후조회_프라이머리() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(readOnlyNode()).isEqualTo("replica");
+
+        // When
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("update node set name = 'written'"));
+
+        // Then
+        assertThat(readOnlyNode()).isEqualTo("written");
+
+        // 다른 요청은 다시 레플리카에서 읽음
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void 프라이머리조회_요청한경우_프라이머리() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        // When
+        ReplicationRoutingDataSource.usePrimaryForCurrentRequest();
+
+        // Then
+        assertThat(readOnlyNode()).isEqualTo("primary");
+    }
+}
@@ -7,6 +7,7 @@ import com.dahoon.qpbetask.user.UserRepository;
 import com.dahoon.qpbetask.user.component.JwtTokenProvider;
 import com.dahoon.qpbetask.user.dto.JwtTokenDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +42,8 @@ public class LoanControllerTest {
     private LoanRepository loanRepository;
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private LoanStatusRegistry loanStatusRegistry;
 
     private Book savedBook1;
     private Book savedBook2;
@@ -69,6 +72,13 @@ public class LoanControllerTest {
         jwtTokenDto = jwtTokenProvider.generateToken(savedUser.getUsername());
     }
 
+    // 대출 중 집합(Redis)은 트랜잭션 롤백 대상이 아니므로 테스트에서 표시한 도서를 되돌림
+    @AfterEach
+    void tearDown() {
+        loanStatusRegistry.markAvailable(savedBook1.getId());
+        loanStatusRegistry.markAvailable(savedBook2.getId());
+    }
+
     @Test
     void 도서대출() throws Exception {
         // Given
@@ -89,12 +99,13 @@ public class LoanControllerTest {
 
     @Test
     void 대출된도서_대출여부조회() throws Exception {
-        // Given - 도서를 대출 처리
+        // Given - 도서를 대출 처리 (대출 여부는 Redis 대출 중 집합으로 확인)
         loanRepository.save(Loan.builder()
                 .book(savedBook1)
                 .user(savedUser)
                 .loanDate(LocalDate.now())
                 .build());
+        loanStatusRegistry.markBorrowed(savedBook1.getId());
 
         // When & Then
         mockMvc.perform(get("/api/loans/" + savedBook1.getId())
@@ -104,6 +115,24 @@ public class LoanControllerTest {
                 .andExpect(content().string("대출 중인 도서입니다."));
     }
 
+    @Test
+    void 여러도서_대출가능여부조회() throws Exception {
+        // Given
+        loanStatusRegistry.markBorrowed(savedBook1.getId());
+        loanStatusRegistry.markAvailable(savedBook2.getId());
+        long missingId = savedBook2.getId() + 1_000_000;
+
+        // When & Then - 없는 도서 ID 는 결과에서 제외
+        mockMvc.perform(get("/api/loans/status")
+                        .header("Authorization", "Bearer " + jwtTokenDto.getAccessToken())
+                        .param("ids", String.valueOf(savedBook1.getId()), String.valueOf(savedBook2.getId()), String.valueOf(missingId))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['" + savedBook1.getId() + "']").value(false))
+                .andExpect(jsonPath("$['" + savedBook2.getId() + "']").value(true))
+                .andExpect(jsonPath("$['" + missingId + "']").doesNotExist());
+    }
+
     @Test
     void 도서반납() throws Exception {
         // Given